@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.actions;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import io.openliberty.tools.intellij.LibertyPluginIcons;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.util.Constants;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Diagnostic action which shows the size and the hit rate of the MicroProfile project cache.
+ */
+public class ShowMicroProfileCacheStatisticsAction extends AnAction {
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        PsiMicroProfileProjectManager.CacheStatistics statistics = PsiMicroProfileProjectManager.getInstance(project).getCacheStatistics();
+        Notification notif = new Notification(Constants.LIBERTY_DEV_DASHBOARD_ID,
+                LocalizedResourceUtil.getMessage("microprofile.cache.statistics.title"),
+                LocalizedResourceUtil.getMessage("microprofile.cache.statistics.content",
+                        statistics.size(), statistics.maxSize(), String.format("%.1f", statistics.hitRate() * 100),
+                        statistics.hits(), statistics.misses(), statistics.evictions()),
+                NotificationType.INFORMATION);
+        notif.setIcon(LibertyPluginIcons.libertyIcon);
+        Notifications.Bus.notify(notif, project);
+    }
+}
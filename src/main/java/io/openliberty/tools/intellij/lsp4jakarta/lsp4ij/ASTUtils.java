@@ -14,7 +14,6 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
 import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -29,7 +28,6 @@ public class ASTUtils {
      * @return
      */
     public static @NotNull Collection<PsiMethod> getAllMethodDeclarations(PsiJavaFile unit) {
-        Collection<PsiMethod> allMethodDeclarations =  PsiTreeUtil.findChildrenOfType(unit, PsiMethod.class);
-        return allMethodDeclarations;
+        return JavaFileElements.getInstance(unit).getMethodDeclarations();
     }
 }
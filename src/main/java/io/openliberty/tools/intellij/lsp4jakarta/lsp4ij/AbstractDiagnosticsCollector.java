@@ -24,7 +24,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.interceptor.Constants;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
@@ -94,6 +93,26 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
         return diagnostic;
     }
 
+    /**
+     * Returns the fully qualified names of the annotations which must be used in a Java file for this collector to
+     * report diagnostics, and null if the collector must validate every Java file.
+     *
+     * @return the fully qualified names of the required annotations and null otherwise.
+     */
+    protected String[] getRequiredAnnotations() {
+        return null;
+    }
+
+    @Override
+    public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
+        String[] requiredAnnotations = getRequiredAnnotations();
+        if (requiredAnnotations != null && context.getTypeRoot() instanceof PsiJavaFile unit) {
+            // Skip the files which don't use any of the required annotations without resolving their annotations
+            return JavaFileElements.getInstance(unit).mayHaveAnnotation(requiredAnnotations);
+        }
+        return true;
+    }
+
     /**
      * Collect diagnostics according to the context.
      *
@@ -157,9 +176,7 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      */
     protected static boolean isMatchedJavaElement(PsiClass type, String javaElementName, String javaElementFQName) {
         if (javaElementFQName.equals(javaElementName)) {
-            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-            Object o = facade.findClass(javaElementFQName, GlobalSearchScope.allScope(type.getProject()));
-            return (o != null);
+            return DiagnosticsUtils.isResolvableType(type.getProject(), javaElementFQName);
         }
         return false;
     }
@@ -201,12 +218,11 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      * @return Matched fully qualified name and null otherwise.
      */
     protected static String getMatchedJavaElementName(PsiClass type, String javaElementName, String[] javaElementFQNames) {
-        String[] matches = (String[]) Stream.of(javaElementFQNames)
-                .filter(fqName -> nameEndsWith(fqName, javaElementName))
-                .toArray(String[]::new);
-        if (matches.length > 0) {
-            if (isMatchedJavaElement(type, javaElementName, matches[0]) == true) // only check the first one for now
-                return matches[0];
+        for (String fqName : javaElementFQNames) {
+            if (nameEndsWith(fqName, javaElementName)) {
+                // only check the first one for now
+                return isMatchedJavaElement(type, javaElementName, fqName) ? fqName : null;
+            }
         }
         return null;
     }
@@ -242,7 +258,13 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
         // add a prefix '.' to simple name
         // e.g. 'jakarta.validation.constraints.DecimalMin' should NOT end with 'Min'
         // here
-        return fqName.equals(name) || fqName.endsWith("." + name);
+        if (name == null) {
+            // ex : the qualified name of an unresolved annotation
+            return false;
+        }
+        // compare without concatenating the strings since it is called for every annotation
+        int prefixLength = fqName.length() - name.length();
+        return fqName.equals(name) || (prefixLength > 0 && fqName.endsWith(name) && fqName.charAt(prefixLength - 1) == '.');
     }
 
     /**
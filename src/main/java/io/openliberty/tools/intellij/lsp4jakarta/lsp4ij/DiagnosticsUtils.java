@@ -14,18 +14,29 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 
 import java.beans.Introspector;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for common IntelliJ PSI-based diagnostic logic.
  */
 public class DiagnosticsUtils {
-    
+
+    // Java type fully qualified name -> true if the type can be found in the project and its libraries
+    private static final Key<CachedValue<Map<String, Boolean>>> RESOLVABLE_TYPES_KEY = Key.create(DiagnosticsUtils.class.getName() + ".resolvableTypes");
+
     /**
      * inheritsFrom
      * find super class and Check
@@ -143,13 +154,36 @@ public class DiagnosticsUtils {
      */
     public static boolean isMatchedJavaElement(PsiClass type, String javaElementName, String javaElementFQName) {
         if (javaElementFQName.equals(javaElementName)) {
-            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-            Object o = facade.findClass(javaElementFQName, GlobalSearchScope.allScope(type.getProject()));
-            return (o != null);
+            return isResolvableType(type.getProject(), javaElementFQName);
         }
         return false;
     }
 
+    /**
+     * Returns true if the given Java type can be found in the project and its libraries and false otherwise.
+     *
+     * <p>
+     * The results are cached per project until a Java file or the project roots change, so that checking the same
+     * annotation on every field, method and parameter of a file searches the type only once.
+     * </p>
+     *
+     * @param project the project.
+     * @param typeFQName the fully qualified name of the Java type.
+     * @return true if the given Java type can be found in the project and its libraries and false otherwise.
+     */
+    public static boolean isResolvableType(Project project, String typeFQName) {
+        Map<String, Boolean> resolvableTypes = CachedValuesManager.getManager(project).getCachedValue(project, RESOLVABLE_TYPES_KEY,
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(),
+                        PsiModificationTracker.getInstance(project), ProjectRootModificationTracker.getInstance(project)),
+                false);
+        Boolean resolvable = resolvableTypes.get(typeFQName);
+        if (resolvable == null) {
+            resolvable = JavaPsiFacade.getInstance(project).findClass(typeFQName, GlobalSearchScope.allScope(project)) != null;
+            resolvableTypes.put(typeFQName, resolvable);
+        }
+        return resolvable;
+    }
+
     public static List<PsiClass> collectSuperClasses(PsiClass psiClass) {
         List<PsiClass> superClasses = new ArrayList<>();
         PsiClass current = psiClass.getSuperClass();
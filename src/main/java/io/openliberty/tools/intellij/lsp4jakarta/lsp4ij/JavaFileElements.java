@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiRecordComponent;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Elements of a Java file collected by a single traversal of its PSI tree.
+ *
+ * <p>
+ * The Jakarta diagnostics collectors which need elements declared anywhere in the file (ex : method declarations of
+ * inner and anonymous classes, method invocations) share the result instead of walking the whole tree each. The
+ * elements are collected on first use and cached on the file until it is modified.
+ * </p>
+ *
+ * <p>
+ * The simple names of the annotations of the classes, members and parameters of the file are also collected, so that
+ * a collector which only reports diagnostics on annotated elements can skip a file which doesn't reference its
+ * annotations without resolving them. They are read from the modifier lists, which are backed by the stubs of the file,
+ * so skipping a file doesn't load its AST.
+ * </p>
+ */
+public final class JavaFileElements {
+
+    private record TreeElements(List<PsiMethod> methodDeclarations, List<PsiMethodCallExpression> methodInvocations) {
+    }
+
+    private final NotNullLazyValue<TreeElements> treeElements;
+
+    private final Set<String> annotationNames;
+
+    private JavaFileElements(PsiJavaFile unit) {
+        this.treeElements = NotNullLazyValue.atomicLazy(() -> collectTreeElements(unit));
+        this.annotationNames = collectAnnotationNames(unit);
+    }
+
+    /**
+     * Returns the elements of the given Java file.
+     *
+     * @param unit the Java file.
+     * @return the elements of the given Java file.
+     */
+    public static @NotNull JavaFileElements getInstance(@NotNull PsiJavaFile unit) {
+        return CachedValuesManager.getCachedValue(unit,
+                () -> CachedValueProvider.Result.create(new JavaFileElements(unit), unit));
+    }
+
+    /**
+     * Returns all the method declarations of the Java file, in document order.
+     *
+     * @return all the method declarations of the Java file, in document order.
+     */
+    public @NotNull List<PsiMethod> getMethodDeclarations() {
+        return treeElements.getValue().methodDeclarations();
+    }
+
+    /**
+     * Returns all the method invocations of the Java file, in document order.
+     *
+     * @return all the method invocations of the Java file, in document order.
+     */
+    public @NotNull List<PsiMethodCallExpression> getMethodInvocations() {
+        return treeElements.getValue().methodInvocations();
+    }
+
+    /**
+     * Returns true if the Java file may use one of the given annotations and false otherwise.
+     *
+     * <p>
+     * The annotations are compared by simple name, an annotation used with its fully qualified name is matched too.
+     * The caller must still resolve the annotations of the matching files.
+     * </p>
+     *
+     * @param annotationFQNames the fully qualified names of the annotations.
+     * @return true if the Java file may use one of the given annotations and false otherwise.
+     */
+    public boolean mayHaveAnnotation(@NotNull String... annotationFQNames) {
+        for (String annotationFQName : annotationFQNames) {
+            if (annotationNames.contains(StringUtil.getShortName(annotationFQName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TreeElements collectTreeElements(PsiJavaFile unit) {
+        List<PsiMethod> methodDeclarations = new ArrayList<>();
+        List<PsiMethodCallExpression> methodInvocations = new ArrayList<>();
+        unit.accept(new JavaRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitMethod(@NotNull PsiMethod method) {
+                methodDeclarations.add(method);
+                super.visitMethod(method);
+            }
+
+            @Override
+            public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+                methodInvocations.add(expression);
+                super.visitMethodCallExpression(expression);
+            }
+        });
+        return new TreeElements(Collections.unmodifiableList(methodDeclarations),
+                Collections.unmodifiableList(methodInvocations));
+    }
+
+    private static Set<String> collectAnnotationNames(PsiJavaFile unit) {
+        Set<String> annotationNames = new HashSet<>();
+        for (PsiClass type : unit.getClasses()) {
+            collectAnnotationNames(type, annotationNames);
+        }
+        return annotationNames;
+    }
+
+    private static void collectAnnotationNames(PsiClass type, Set<String> annotationNames) {
+        addAnnotationNames(type, annotationNames);
+        for (PsiField field : type.getFields()) {
+            addAnnotationNames(field, annotationNames);
+        }
+        for (PsiMethod method : type.getMethods()) {
+            addAnnotationNames(method, annotationNames);
+            for (PsiParameter parameter : method.getParameterList().getParameters()) {
+                addAnnotationNames(parameter, annotationNames);
+            }
+        }
+        for (PsiRecordComponent recordComponent : type.getRecordComponents()) {
+            addAnnotationNames(recordComponent, annotationNames);
+        }
+        for (PsiClass innerType : type.getInnerClasses()) {
+            collectAnnotationNames(innerType, annotationNames);
+        }
+    }
+
+    private static void addAnnotationNames(PsiModifierListOwner element, Set<String> annotationNames) {
+        PsiModifierList modifierList = element.getModifierList();
+        if (modifierList == null) {
+            return;
+        }
+        for (PsiAnnotation annotation : modifierList.getAnnotations()) {
+            PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            String name = reference != null ? reference.getReferenceName() : null;
+            if (name != null) {
+                annotationNames.add(name);
+            }
+        }
+    }
+}
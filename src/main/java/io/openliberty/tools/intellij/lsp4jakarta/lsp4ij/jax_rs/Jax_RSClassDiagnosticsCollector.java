@@ -41,6 +41,11 @@ public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollecto
         return Jax_RSConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return new String[] { Jax_RSConstants.PATH_ANNOTATION, Jax_RSConstants.PROVIDER_ANNOTATION };
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
 
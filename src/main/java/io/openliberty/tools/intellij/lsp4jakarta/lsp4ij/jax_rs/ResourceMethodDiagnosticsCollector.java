@@ -24,6 +24,9 @@ import java.util.List;
 
 public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
+    private static final String[] METHOD_DESIGNATORS = ArrayUtils.add(Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS,
+            Jax_RSConstants.PATH_ANNOTATION);
+
     public ResourceMethodDiagnosticsCollector() {
         super();
     }
@@ -33,12 +36,15 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
         return Jax_RSConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return METHOD_DESIGNATORS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
 
         if (unit != null) {
-            String[] methodDesignators = ArrayUtils.addAll(Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS,
-                    Jax_RSConstants.PATH_ANNOTATION);
             PsiClass[] alltypes;
             PsiMethod[] methods;
 
@@ -53,7 +59,7 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
 
                     for (PsiAnnotation annotation : methodAnnotations) {
                         String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
-                                methodDesignators);
+                                METHOD_DESIGNATORS);
                         if (matchedAnnotation != null) {
                             if (isValid && !isPublic)
                                 isValid = false;
@@ -17,9 +17,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import com.intellij.psi.*;
-import com.intellij.psi.util.PsiTreeUtil;
 import org.apache.commons.lang3.StringUtils;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileElements;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PositionUtils;
 import org.eclipse.lsp4j.Diagnostic;
@@ -41,7 +41,7 @@ public class JsonpDiagnosticCollector extends AbstractDiagnosticsCollector {
         if (unit == null) {
             return;
         }
-        Collection<PsiMethodCallExpression> allMethodInvocations = PsiTreeUtil.findChildrenOfType(unit, PsiMethodCallExpression.class);
+        Collection<PsiMethodCallExpression> allMethodInvocations = JavaFileElements.getInstance(unit).getMethodInvocations();
         List<PsiMethodCallExpression> createPointerInvocations = new ArrayList<>();
         //Used to get the list of method invocations for JsonObjectBuilder add methods
         List<PsiMethodCallExpression> createObjectBuilderMethodInvocations = new ArrayList<>();
@@ -43,6 +43,11 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
         return PersistenceConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return new String[] { PersistenceConstants.ENTITY };
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
@@ -37,6 +37,11 @@ public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCo
         return PersistenceConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return PersistenceConstants.SET_OF_PERSISTENCE_ANNOTATIONS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
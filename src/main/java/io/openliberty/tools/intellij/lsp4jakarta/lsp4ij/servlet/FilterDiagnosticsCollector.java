@@ -35,6 +35,11 @@ public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return new String[] { ServletConstants.WEBFILTER_FQ_NAME };
+    }
+
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
             PsiClass[] alltypes;
@@ -34,6 +34,11 @@ public class ListenerDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return new String[] { ServletConstants.WEB_LISTENER_FQ_NAME };
+    }
+
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit != null) {
             PsiClass[] alltypes;
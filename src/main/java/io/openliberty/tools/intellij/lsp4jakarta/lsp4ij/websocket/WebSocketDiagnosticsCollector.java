@@ -37,6 +37,11 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
         return WebSocketConstants.DIAGNOSTIC_SOURCE;
     }
 
+    @Override
+    protected String[] getRequiredAnnotations() {
+        return WebSocketConstants.WS_ANNOTATION_CLASS;
+    }
+
     @Override
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
         if (unit == null) {
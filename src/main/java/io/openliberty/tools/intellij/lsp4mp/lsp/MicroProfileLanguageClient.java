@@ -27,6 +27,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChange
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfileProjectInfoCache;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
@@ -56,7 +57,7 @@ import java.util.stream.Collectors;
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusLanguageClient.java
  * to start LSP4MP, Language Server for MicroProfile
  */
-public class MicroProfileLanguageClient extends IndexAwareLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, ProfileChangeAdapter {
+public class MicroProfileLanguageClient extends IndexAwareLanguageClient implements MicroProfileLanguageClientAPI, ClasspathResourceChangedManager.Listener, MicroProfileProjectInfoCache.Listener, ProfileChangeAdapter {
 
     private final MessageBusConnection connection;
     private MicroProfileInspectionsInfo inspectionsInfo;
@@ -68,6 +69,7 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         MicroProfileDeploymentSupport.getInstance(project);
         connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
         connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+        connection.subscribe(MicroProfileProjectInfoCache.TOPIC, this);
         inspectionsInfo = MicroProfileInspectionsInfo.getMicroProfileInspectionInfo(project);
         connection.subscribe(ProfileChangeAdapter.TOPIC, this);
         // Track MicroProfile settings changed to push them to the language server with LSP didChangeConfiguration.
@@ -123,6 +125,18 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies), MicroProfileModuleUtil.getModulesURIs(getProject()));
     }
 
+    @Override
+    public void librariesChanged(Set<Module> modules) {
+        if (isDisposed()) {
+            // The language client has been disposed, ignore changes in libraries
+            return;
+        }
+        // Only the modules which depend on the changed libraries are invalidated
+        sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies), modules.stream()
+                .map(PsiUtilsLSImpl::getProjectURI)
+                .collect(Collectors.toSet()));
+    }
+
     @Override
     public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
         if (isDisposed()) {
@@ -139,6 +153,16 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         }
     }
 
+    @Override
+    public void libraryPropertiesCollected(Module module) {
+        if (isDisposed()) {
+            return;
+        }
+        // The project info sent before was partial, the language server must request the dependencies properties again
+        sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies),
+                Collections.singleton(PsiUtilsLSImpl.getProjectURI(module)));
+    }
+
     private MicroProfilePropertiesScope getScope(VirtualFile file) {
         return isJavaFile(file) ? MicroProfilePropertiesScope.sources : MicroProfilePropertiesScope.configfiles;
     }
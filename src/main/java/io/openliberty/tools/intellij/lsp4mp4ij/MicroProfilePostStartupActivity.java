@@ -1,13 +1,36 @@
 package io.openliberty.tools.intellij.lsp4mp4ij;
 
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.startup.StartupActivity;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
 
 public class MicroProfilePostStartupActivity implements StartupActivity, DumbAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MicroProfilePostStartupActivity.class);
+
+    private static final String PRELOAD_REGISTRY_KEY = "liberty.tools.microprofile.preload";
+
+    // One module is pre-warmed at a time to leave the other threads to the user requests
+    private static final ExecutorService PRELOAD_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("MicroProfile Preload", 1);
+
     @Override
     public void runActivity(@NotNull Project project) {
         ClasspathResourceChangedManager.getInstance(project);
@@ -18,5 +41,52 @@ public class MicroProfilePostStartupActivity implements StartupActivity, DumbAwa
         // - and after the QuarkusLanguageClient throws an event to trigger Java validation.
         // As java validation requires the properties cache, it needs that cache must be updated before.
         PsiMicroProfileProjectManager.getInstance(project);
+        if (!ApplicationManager.getApplication().isUnitTestMode() && Registry.is(PRELOAD_REGISTRY_KEY, true)) {
+            // Pre-warm the caches once indexing is finished, so that the first hover, completion or validation
+            // doesn't pay for parsing the config files and loading the static properties metadata.
+            DumbService.getInstance(project).runWhenSmart(() -> preload(project));
+        }
+    }
+
+    private static void preload(Project project) {
+        if (project.isDisposed()) {
+            return;
+        }
+        // Pre-warming more modules than the cache of the MicroProfile projects can hold would evict the first ones
+        int remaining = PsiMicroProfileProjectManager.getInstance(project).getCacheStatistics().maxSize();
+        preload(project, List.of(ModuleManager.getInstance(project).getModules()), 0, remaining);
+    }
+
+    private static void preload(Project project, List<Module> modules, int index, int remaining) {
+        if (index >= modules.size() || remaining <= 0 || project.isDisposed()) {
+            return;
+        }
+        Module module = modules.get(index);
+        // A non blocking read action is cancelled by a write action (ex : typing) and restarted once it is finished
+        ReadAction.nonBlocking(() -> !module.isDisposed() && PropertiesManager.getInstance().preload(module))
+                .inSmartMode(project)
+                .expireWith(LibertyToolPluginDisposable.getInstance(project))
+                .submit(PRELOAD_EXECUTOR)
+                .onError(e -> {
+                    if (!(e instanceof CancellationException)) {
+                        LOGGER.warn("Error while pre-warming the MicroProfile caches of module '{}'", module.getName(), e);
+                    }
+                })
+                // A module which failed to be pre-warmed must not stop the pre-warming of the next ones
+                .onProcessed(result -> PRELOAD_EXECUTOR.execute(() -> {
+                    boolean preloaded = Boolean.TRUE.equals(result);
+                    try {
+                        if (preloaded && !module.isDisposed()) {
+                            // The cache files of the library JARs are read outside of the read action
+                            PropertiesManager.getInstance().loadLibraryProperties(module);
+                        }
+                    } catch (CancellationException e) {
+                        // The module is pre-warmed again on its first use
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Error while loading the library properties of module '{}'", module.getName(), e);
+                    } finally {
+                        preload(project, modules, index + 1, preloaded ? remaining - 1 : remaining);
+                    }
+                }));
     }
 }
\ No newline at end of file
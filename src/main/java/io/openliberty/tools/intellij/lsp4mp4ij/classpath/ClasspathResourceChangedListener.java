@@ -17,6 +17,7 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.roots.libraries.LibraryTable;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.newvfs.BulkFileListener;
@@ -24,6 +25,7 @@ import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiTreeChangeAdapter;
 import com.intellij.psi.PsiTreeChangeEvent;
@@ -34,6 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Classpath resource changed listener used to track update of:
@@ -43,13 +47,34 @@ import java.util.List;
  *     <li>Java source file has changed.</li>
  *     <li>microprofile-config.properties file has changed.</li>
  *   </ul>
+ *
+ * <p>
+ * It is the only listener of the plugin which resolves the VFS events to (module, kind of file): the resolved changes
+ * are debounced for {@link ClasspathResourceChangedManager#TOPIC}.
+ * </p>
  */
 class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements BulkFileListener, LibraryTable.Listener, ModuleListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedListener.class);
 
+    /**
+     * Kind of a file computed from its name, cached in the file until it is renamed.
+     */
+    private enum SourceFileKind {
+        JAVA,
+        CONFIG_SOURCE,
+        IRRELEVANT
+    }
+
+    private static final Key<SourceFileKind> SOURCE_FILE_KIND = Key.create(ClasspathResourceChangedListener.class.getName() + ".sourceFileKind");
+
     private final ClasspathResourceChangedManager manager;
 
+    // VFS events metrics
+    private final AtomicLong receivedVfsEvents = new AtomicLong();
+    private final AtomicLong resolvedVfsEvents = new AtomicLong();
+    private final AtomicLong vfsResolutionTime = new AtomicLong();
+
     ClasspathResourceChangedListener(ClasspathResourceChangedManager manager) {
         this.manager = manager;
     }
@@ -58,19 +83,19 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
 
     @Override
     public void afterLibraryAdded(@NotNull Library newLibrary) {
-        handleLibraryUpdate(newLibrary);
+        LOGGER.info("handleLibraryUpdate called " + newLibrary.getName());
+        // Notify that a library has changed, the modules which depend on it are resolved when the change is notified,
+        // once the module dependencies have been updated.
+        final var notifier = manager.getResourceChangedNotifier();
+        notifier.addLibrary(newLibrary);
     }
 
     @Override
-    public void afterLibraryRemoved(@NotNull Library library) {
-        handleLibraryUpdate(library);
-    }
-
-    private void handleLibraryUpdate(Library library) {
+    public void beforeLibraryRemoved(@NotNull Library library) {
         LOGGER.info("handleLibraryUpdate called " + library.getName());
-        // Notify that a library has changed.
+        // Notify that a library has changed, the modules which depend on it must be resolved before its removal.
         final var notifier = manager.getResourceChangedNotifier();
-        notifier.addLibrary(library);
+        notifier.addLibraryModules(ClasspathResourceChangedNotifier.getDependentModules(manager.getProject(), library));
     }
 
     // Track Psi file changes
@@ -111,59 +136,99 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         if (psiFile == null) {
             return;
         }
-        tryToAddSourceFile(psiFile.getVirtualFile(), true);
+        VirtualFile file = psiFile.getVirtualFile();
+        if (file == null || getSourceFileKind(file) == SourceFileKind.IRRELEVANT
+                || manager.getResourceChangedNotifier().isPendingSourceFile(file)) {
+            // Typing in a file which is not a Java, config source file or which is already pending
+            return;
+        }
+        tryToAddSourceFile(file, true);
     }
 
     // Track file system changes
 
     @Override
     public void before(@NotNull List<? extends VFileEvent> events) {
+        long start = System.nanoTime();
+        int resolved = 0;
         for (VFileEvent event : events) {
             boolean expectedEvent = (event instanceof VFileDeleteEvent);
             if (expectedEvent) {
                 // A file has been deleted
                 // We need to track delete event in 'before' method because we need the project of the file (in after we loose this information).
-                tryToAddSourceFile(event.getFile(), false);
+                if (tryToAddSourceFile(event.getFile(), false) != null) {
+                    resolved++;
+                }
             }
         }
+        updateVfsMetrics(events.size(), resolved, start);
     }
 
     @Override
     public void after(@NotNull List<? extends VFileEvent> events) {
+        long start = System.nanoTime();
+        int resolved = 0;
         for (VFileEvent event : events) {
+            if (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename()) {
+                // The kind of the file depends on its name
+                propertyChangeEvent.getFile().putUserData(SOURCE_FILE_KIND, null);
+            }
             boolean expectedEvent = (event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent);
             if (expectedEvent) {
                 // A file has been created, updated
-                tryToAddSourceFile(event.getFile(), false);
+                if (tryToAddSourceFile(event.getFile(), false) != null) {
+                    resolved++;
+                }
             }
         }
+        updateVfsMetrics(events.size(), resolved, start);
+    }
+
+    private void updateVfsMetrics(int received, int resolved, long start) {
+        long time = System.nanoTime() - start;
+        receivedVfsEvents.addAndGet(received);
+        resolvedVfsEvents.addAndGet(resolved);
+        vfsResolutionTime.addAndGet(time);
+        if (LOGGER.isDebugEnabled() && received > 0) {
+            LOGGER.debug("Resolved " + resolved + "/" + received + " VFS events in " + TimeUnit.NANOSECONDS.toMicros(time)
+                    + "us (" + (received * 1_000_000_000L / Math.max(time, 1)) + " events/s, total: " + resolvedVfsEvents.get()
+                    + "/" + receivedVfsEvents.get() + " events in " + TimeUnit.NANOSECONDS.toMillis(vfsResolutionTime.get()) + "ms)");
+        }
     }
 
-    private static boolean isJavaFile(VirtualFile file) {
-        return PsiMicroProfileProjectManager.isJavaFile(file);
-    }
-
-    private static boolean isConfigSource(VirtualFile file) {
-        return PsiMicroProfileProjectManager.isConfigSource(file);
+    private static SourceFileKind getSourceFileKind(VirtualFile file) {
+        SourceFileKind kind = file.getUserData(SOURCE_FILE_KIND);
+        if (kind == null) {
+            if (PsiMicroProfileProjectManager.isJavaFile(file)) {
+                kind = SourceFileKind.JAVA;
+            } else if (PsiMicroProfileProjectManager.isConfigSource(file)) {
+                kind = SourceFileKind.CONFIG_SOURCE;
+            } else {
+                kind = SourceFileKind.IRRELEVANT;
+            }
+            file.putUserData(SOURCE_FILE_KIND, kind);
+        }
+        return kind;
     }
 
-    private void tryToAddSourceFile(VirtualFile file, boolean checkExistingFile) {
+    private Module tryToAddSourceFile(VirtualFile file, boolean checkExistingFile) {
         if (checkExistingFile && (file == null || !file.exists())) {
             // The file doesn't exist
-            return;
+            return null;
         }
         var project = manager.getProject();
-        if (!isJavaFile(file) && !isConfigSource(file)) {
-            return;
+        if (file == null || getSourceFileKind(file) == SourceFileKind.IRRELEVANT) {
+            return null;
         }
         // The file is a Java file or microprofile-config.properties
         Module module = LSPIJUtils.getModule(file, project);
         if (module == null || module.isDisposed()) {
-            return;
+            return null;
         }
         // Notify that the file has changed
         var notifier = manager.getResourceChangedNotifier();
         notifier.addSourceFile(Pair.pair(file, module));
+        return module;
     }
 
 }
@@ -19,7 +19,9 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar;
+import com.intellij.openapi.util.ModificationTracker;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.PsiManager;
@@ -53,6 +55,7 @@ public class ClasspathResourceChangedManager implements Disposable {
 	private final MessageBusConnection projectConnection;
 	private final MessageBusConnection appConnection;
 	private final ClasspathResourceChangedListener listener;
+	private final SimpleModificationTracker javaStructureModificationTracker;
 
 	public static ClasspathResourceChangedManager getInstance(Project project) {
 		return project.getService(ClasspathResourceChangedManager.class);
@@ -62,6 +65,15 @@ public class ClasspathResourceChangedManager implements Disposable {
 
 		void librariesChanged();
 
+		/**
+		 * Called when libraries have changed with the modules which depend on them.
+		 *
+		 * @param modules the modules which depend on the changed libraries.
+		 */
+		default void librariesChanged(Set<Module> modules) {
+			librariesChanged();
+		}
+
 		void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources);
 	}
 
@@ -69,8 +81,9 @@ public class ClasspathResourceChangedManager implements Disposable {
 
 	public ClasspathResourceChangedManager(Project project) {
 		this.project = project;
+		this.javaStructureModificationTracker = new SimpleModificationTracker();
 		// Send source files changed in debounce mode
-		this.resourceChangedNotifier = new ClasspathResourceChangedNotifier(project);
+		this.resourceChangedNotifier = new ClasspathResourceChangedNotifier(project, javaStructureModificationTracker);
 		listener = new ClasspathResourceChangedListener(this);
 		projectConnection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
 		// Track end of Java libraries update
@@ -93,6 +106,16 @@ public class ClasspathResourceChangedManager implements Disposable {
 		PsiManager.getInstance(project).removePsiTreeChangeListener(listener);
 	}
 
+	/**
+	 * Returns the modification tracker of the structure of the Java files of the project, which is incremented before
+	 * the Java files whose structure has changed (not only a method body) are notified to {@link #TOPIC}.
+	 *
+	 * @return the modification tracker of the structure of the Java files of the project.
+	 */
+	public ModificationTracker getJavaStructureModificationTracker() {
+		return javaStructureModificationTracker;
+	}
+
 	Project getProject() {
 		return project;
 	}
@@ -16,88 +16,204 @@ package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.LibraryOrderEntry;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.OrderEntry;
 import com.intellij.openapi.roots.libraries.Library;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Source file change notifier with a debounce mode.
+ *
+ * <p>
+ * Changed files are batched per module and notified once no event has been received during the debounce delay, with
+ * one notification per module. The delay is short for a single edit and longer when a lot of events are received
+ * (ex : git checkout), but the changes are never notified later than {@link #MAX_LATENCY} after the first event of
+ * the batch.
+ * </p>
  */
 public class ClasspathResourceChangedNotifier implements Disposable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedNotifier.class);
 
-    private static final long DEBOUNCE_DELAY = 1000;
+    private static final long DEBOUNCE_DELAY = 500;
+
+    private static final long BULK_DEBOUNCE_DELAY = 2000;
+
+    /**
+     * Above this number of events in a batch, the changes come from a bulk operation and {@link #BULK_DEBOUNCE_DELAY}
+     * is used.
+     */
+    private static final int BULK_EVENTS_THRESHOLD = 20;
+
+    private static final long MAX_LATENCY = 5000;
 
     private final Project project;
 
-    private Timer debounceTimer;
-    private TimerTask debounceTask;
+    private final ScheduledExecutorService executor;
+
+    private final SimpleModificationTracker javaStructureModificationTracker;
 
-    private final Set<Pair<VirtualFile, Module>> sourceFiles;
-    private boolean librariesChanged;
-    private boolean disposed;
+    // Module -> changed Java, config source files of the module
+    private final Map<Module, Set<VirtualFile>> sourceFiles;
+    private final AtomicBoolean librariesChanged;
+    // Added libraries, the modules which depend on them are resolved when the change is notified
+    private final Set<Library> libraries;
+    // Modules which depend on removed libraries
+    private final Set<Module> libraryModules;
 
-    public ClasspathResourceChangedNotifier(Project project) {
+    private final AtomicBoolean scheduled;
+    private final AtomicInteger batchEvents;
+    private volatile long batchStartTime;
+    private volatile long lastEventTime;
+
+    private final AtomicLong receivedEvents;
+    private final AtomicLong emittedNotifications;
+    private final AtomicLong suppressedSourceFiles;
+
+    private volatile boolean disposed;
+
+    public ClasspathResourceChangedNotifier(Project project, SimpleModificationTracker javaStructureModificationTracker) {
         this.project = project;
-        sourceFiles = new HashSet<>();
+        this.javaStructureModificationTracker = javaStructureModificationTracker;
+        executor = AppExecutorUtil.createBoundedScheduledExecutorService("MicroProfile classpath resource changed notifier", 1);
+        sourceFiles = new ConcurrentHashMap<>();
+        librariesChanged = new AtomicBoolean();
+        libraries = ConcurrentHashMap.newKeySet();
+        libraryModules = ConcurrentHashMap.newKeySet();
+        scheduled = new AtomicBoolean();
+        batchEvents = new AtomicInteger();
+        receivedEvents = new AtomicLong();
+        emittedNotifications = new AtomicLong();
+        suppressedSourceFiles = new AtomicLong();
     }
 
-    public synchronized void addLibrary(Library library) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
-        librariesChanged = true;
+    public void addLibrary(Library library) {
+        libraries.add(library);
+        librariesChanged.set(true);
         asyncNotifyChanges();
     }
 
-    public synchronized void addSourceFile(Pair<VirtualFile, Module> pair) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
-        synchronized (sourceFiles) {
-            sourceFiles.add(pair);
+    /**
+     * Adds the modules which depend on a changed library.
+     *
+     * @param modules the modules which depend on a changed library.
+     */
+    public void addLibraryModules(Set<Module> modules) {
+        libraryModules.addAll(modules);
+        librariesChanged.set(true);
+        asyncNotifyChanges();
+    }
+
+    public void addSourceFile(Pair<VirtualFile, Module> pair) {
+        boolean[] added = new boolean[1];
+        // The files of a module are added and removed atomically with the module entry
+        sourceFiles.compute(pair.getSecond(), (module, files) -> {
+            if (files == null) {
+                files = ConcurrentHashMap.newKeySet();
+            }
+            added[0] = files.add(pair.getFirst());
+            return files;
+        });
+        if (added[0]) {
+            asyncNotifyChanges();
+        } else {
+            // The file is already pending, the batch timing is updated without scheduling anything
+            receivedEvents.incrementAndGet();
+            lastEventTime = System.currentTimeMillis();
         }
+    }
 
-        asyncNotifyChanges();
+    /**
+     * Returns true if the given file has changed and is waiting for the end of the debounce delay to be notified.
+     *
+     * @param file the Java, config source file.
+     * @return true if the given file has changed and is waiting for the end of the debounce delay to be notified.
+     */
+    public boolean isPendingSourceFile(VirtualFile file) {
+        for (Set<VirtualFile> files : sourceFiles.values()) {
+            if (files.contains(file)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void asyncNotifyChanges() {
         if (isDisposed()) {
             return;
         }
+        receivedEvents.incrementAndGet();
         if (ApplicationManager.getApplication().isUnitTestMode()) {
             notifyChanges();
-        } else {
-            debounceTask = new TimerTask() {
-                @Override
-                public void run() {
-                    try {
-                        notifyChanges();
-                    } catch (Throwable t) {
-                        //Need to catch time task exceptions, or it will cancel the timer
-                        LOGGER.error("Failed to notify classpath resource change", t);
-                    }
-                }
-            };
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastEventTime = now;
+        if (batchEvents.getAndIncrement() == 0) {
+            batchStartTime = now;
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            // Only one check is scheduled per batch, instead of one task per event
+            executor.schedule(this::checkPendingChanges, DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
 
-            if (debounceTimer == null) {
-                debounceTimer = new Timer();
+    private void checkPendingChanges() {
+        try {
+            if (isDisposed()) {
+                return;
             }
-
-            debounceTimer.schedule(debounceTask, DEBOUNCE_DELAY);
+            long now = System.currentTimeMillis();
+            long delay = batchEvents.get() > BULK_EVENTS_THRESHOLD ? BULK_DEBOUNCE_DELAY : DEBOUNCE_DELAY;
+            long quietTime = now - lastEventTime;
+            long latency = now - batchStartTime;
+            if (quietTime < delay && latency < MAX_LATENCY) {
+                // Events are still received, wait for the end of the batch
+                executor.schedule(this::checkPendingChanges, Math.min(delay - quietTime, MAX_LATENCY - latency), TimeUnit.MILLISECONDS);
+                return;
+            }
+            // The next event starts a new batch
+            batchEvents.set(0);
+            scheduled.set(false);
+            notifyChanges();
+        } catch (Throwable t) {
+            scheduled.set(false);
+            LOGGER.error("Failed to notify classpath resource change", t);
         }
     }
 
@@ -105,17 +221,52 @@ public class ClasspathResourceChangedNotifier implements Disposable {
         if (isDisposed()) {
             return;
         }
-        synchronized (sourceFiles) {
-            // Java, config sources files has changed
-            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(sourceFiles);
-            sourceFiles.clear();
+        // The files of a module are removed from the pending files before publishing, so that a change received
+        // after the removal is notified in the next batch
+        Map<Module, Set<VirtualFile>> changedFiles = new LinkedHashMap<>();
+        for (Module module : sourceFiles.keySet()) {
+            Set<VirtualFile> files = sourceFiles.remove(module);
+            if (files != null) {
+                changedFiles.put(module, files);
+            }
+        }
+        // Editing a method body doesn't change the MicroProfile properties of a Java file
+        Set<VirtualFile> unchangedFiles = getUnchangedStructureFiles(changedFiles);
+        if (hasChangedJavaStructure(changedFiles, unchangedFiles)) {
+            // The caches which depend on the Java files of the project (ex : the Java diagnostics) are invalidated
+            // before the subscribers are notified
+            javaStructureModificationTracker.incModificationCount();
         }
-        if (librariesChanged) {
+        int notifiedFiles = 0;
+        for (Map.Entry<Module, Set<VirtualFile>> entry : changedFiles.entrySet()) {
+            Module module = entry.getKey();
+            Set<Pair<VirtualFile, Module>> moduleChangedFiles = new HashSet<>();
+            for (VirtualFile file : entry.getValue()) {
+                if (unchangedFiles.contains(file)) {
+                    suppressedSourceFiles.incrementAndGet();
+                } else {
+                    moduleChangedFiles.add(Pair.pair(file, module));
+                }
+            }
+            if (!moduleChangedFiles.isEmpty()) {
+                // Java, config sources files of the module has changed
+                notifiedFiles += moduleChangedFiles.size();
+                emittedNotifications.incrementAndGet();
+                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(moduleChangedFiles);
+            }
+        }
+        if (librariesChanged.getAndSet(false)) {
+            // All the library events of the batch (ex : Maven / Gradle re-import) are sent in one notification
+            // for the modules which depend on the changed libraries only
+            Set<Module> modules = collectLibraryModules();
+            if (modules.isEmpty()) {
+                return;
+            }
+            emittedNotifications.incrementAndGet();
             // Java Libraries has changed
             if (ApplicationManager.getApplication().isUnitTestMode()) {
                 // Send the libraries changed event
-                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                librariesChanged = false;
+                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged(modules);
             } else {
                 // There are some preprocessor (ex : Quarkus deployment preprocessor to load Quarkus deployment dependencies in the classpath).
                 ApplicationManager.getApplication().invokeLater(() -> {
@@ -128,14 +279,161 @@ public class ClasspathResourceChangedNotifier implements Disposable {
                                 progressIndicator.checkCanceled();
                             } finally {
                                 // Send the libraries changed event
-                                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                                librariesChanged = false;
+                                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged(modules);
                             }
                         }
                     }.queue();
                 }, ModalityState.defaultModalityState(), project.getDisposed());
             }
         }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Notified " + notifiedFiles + " changed source files of " + changedFiles.size() + " modules (" + receivedEvents.get()
+                    + " events received, " + emittedNotifications.get() + " notifications emitted, "
+                    + suppressedSourceFiles.get() + " Java files with unchanged structure suppressed)");
+        }
+    }
+
+    private Set<Module> collectLibraryModules() {
+        Set<Module> modules = new HashSet<>();
+        for (Module module : libraryModules) {
+            libraryModules.remove(module);
+            modules.add(module);
+        }
+        List<Library> addedLibraries = new ArrayList<>();
+        for (Library library : libraries) {
+            libraries.remove(library);
+            addedLibraries.add(library);
+        }
+        boolean allModules = computeInReadAction(() -> {
+            if (project.isDisposed()) {
+                return false;
+            }
+            for (Library library : addedLibraries) {
+                Set<Module> dependentModules = getDependentModules(project, library);
+                if (dependentModules.isEmpty()) {
+                    // The library is not used yet by a module (or has been disposed), all modules are notified
+                    return true;
+                }
+                modules.addAll(dependentModules);
+            }
+            return false;
+        });
+        if (allModules) {
+            modules.addAll(Arrays.asList(ModuleManager.getInstance(project).getModules()));
+        }
+        modules.removeIf(Module::isDisposed);
+        return modules;
+    }
+
+    /**
+     * Returns the modules which depend directly or transitively on the given library.
+     *
+     * @param project the project.
+     * @param library the library.
+     * @return the modules which depend directly or transitively on the given library.
+     */
+    static Set<Module> getDependentModules(Project project, Library library) {
+        Set<Module> modules = new HashSet<>();
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            for (OrderEntry entry : ModuleRootManager.getInstance(module).getOrderEntries()) {
+                if (entry instanceof LibraryOrderEntry libraryEntry && library.equals(libraryEntry.getLibrary())) {
+                    modules.add(module);
+                    modules.addAll(ModuleUtilCore.getAllDependentModules(module));
+                    break;
+                }
+            }
+        }
+        return modules;
+    }
+
+    private static boolean hasChangedJavaStructure(Map<Module, Set<VirtualFile>> changedFiles, Set<VirtualFile> unchangedFiles) {
+        for (Set<VirtualFile> files : changedFiles.values()) {
+            for (VirtualFile file : files) {
+                if (PsiMicroProfileProjectManager.isJavaFile(file) && !unchangedFiles.contains(file)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the changed Java files whose structure is unchanged and updates the stored fingerprints of the others.
+     */
+    private Set<VirtualFile> getUnchangedStructureFiles(Map<Module, Set<VirtualFile>> changedFiles) {
+        List<VirtualFile> javaFiles = new ArrayList<>();
+        for (Set<VirtualFile> files : changedFiles.values()) {
+            for (VirtualFile file : files) {
+                if (PsiMicroProfileProjectManager.isJavaFile(file)) {
+                    javaFiles.add(file);
+                }
+            }
+        }
+        if (javaFiles.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // The read action can be restarted, the fingerprints are stored once they are all computed
+        Map<VirtualFile, Long> fingerprints = computeInReadAction(() -> {
+            Map<VirtualFile, Long> result = new HashMap<>();
+            if (project.isDisposed()) {
+                return result;
+            }
+            PsiManager psiManager = PsiManager.getInstance(project);
+            for (VirtualFile file : javaFiles) {
+                // A deleted file has no fingerprint and is notified
+                PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+                if (psiFile instanceof PsiJavaFile javaFile) {
+                    result.put(file, JavaStructureFingerprint.compute(javaFile));
+                }
+            }
+            return result;
+        });
+        Set<VirtualFile> unchangedFiles = new HashSet<>();
+        fingerprints.forEach((file, fingerprint) -> {
+            if (!JavaStructureFingerprint.update(file, fingerprint)) {
+                unchangedFiles.add(file);
+            }
+        });
+        return unchangedFiles;
+    }
+
+    /**
+     * Runs the given computation in a read action which doesn't block the write actions: it is restarted when a write
+     * action is requested. The changes are notified synchronously in unit test mode, where a blocking read action is
+     * used.
+     */
+    private static <T> T computeInReadAction(Computable<T> computation) {
+        if (ApplicationManager.getApplication().isDispatchThread()) {
+            return ReadAction.compute(computation::compute);
+        }
+        return ReadAction.nonBlocking(computation::compute).executeSynchronously();
+    }
+
+    /**
+     * Returns the number of library and source file events received since the creation of the notifier.
+     *
+     * @return the number of library and source file events received since the creation of the notifier.
+     */
+    public long getReceivedEventCount() {
+        return receivedEvents.get();
+    }
+
+    /**
+     * Returns the number of notifications published to {@link ClasspathResourceChangedManager#TOPIC}.
+     *
+     * @return the number of notifications published to {@link ClasspathResourceChangedManager#TOPIC}.
+     */
+    public long getEmittedNotificationCount() {
+        return emittedNotifications.get();
+    }
+
+    /**
+     * Returns the number of changed Java files which have not been notified because their structure is unchanged.
+     *
+     * @return the number of changed Java files which have not been notified because their structure is unchanged.
+     */
+    public long getSuppressedSourceFileCount() {
+        return suppressedSourceFiles.get();
     }
 
     public boolean isDisposed() {
@@ -148,13 +446,7 @@ public class ClasspathResourceChangedNotifier implements Disposable {
             return;
         }
         this.disposed = true;
-        if (debounceTask != null) {
-            debounceTask.cancel();
-            debounceTask = null;
-        }
-        if (debounceTimer != null) {
-            debounceTimer.cancel();
-            debounceTimer = null;
-        }
+        executor.shutdownNow();
+        sourceFiles.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiClassInitializer;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiComment;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLambdaExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.javadoc.PsiDocComment;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fingerprint of the structure of a Java file which can contribute to MicroProfile properties: package, imports, type
+ * declarations, annotations, field declarations, method signatures and Javadoc.
+ *
+ * <p>
+ * The bodies of methods and initializers, the comments and the whitespaces are ignored, so that typing in a method
+ * body doesn't change the fingerprint.
+ * </p>
+ */
+class JavaStructureFingerprint {
+
+    private static final Key<Long> FINGERPRINT_KEY = Key.create(JavaStructureFingerprint.class.getName());
+
+    private JavaStructureFingerprint() {
+    }
+
+    /**
+     * Stores the given fingerprint in the given Java file and returns true if it is different from the previous
+     * stored fingerprint.
+     *
+     * @param file        the virtual file.
+     * @param fingerprint the fingerprint computed with {@link #compute(PsiJavaFile)}.
+     * @return true if the structure of the Java file has changed or is unknown and false otherwise.
+     */
+    static boolean update(@NotNull VirtualFile file, long fingerprint) {
+        Long previous = file.getUserData(FINGERPRINT_KEY);
+        file.putUserData(FINGERPRINT_KEY, fingerprint);
+        return previous == null || previous != fingerprint;
+    }
+
+    static long compute(@NotNull PsiJavaFile javaFile) {
+        FingerprintVisitor visitor = new FingerprintVisitor();
+        javaFile.accept(visitor);
+        return visitor.hash;
+    }
+
+    private static class FingerprintVisitor extends JavaRecursiveElementWalkingVisitor {
+
+        private long hash = 17;
+
+        @Override
+        public void visitElement(@NotNull PsiElement element) {
+            if (element instanceof PsiWhiteSpace || (element instanceof PsiComment && !(element instanceof PsiDocComment))) {
+                return;
+            }
+            if (element.getFirstChild() == null) {
+                // Leaf token
+                hash = hash * 1_000_003L + StringUtil.stringHashCode(element.getNode().getChars());
+                return;
+            }
+            super.visitElement(element);
+        }
+
+        @Override
+        public void visitCodeBlock(@NotNull PsiCodeBlock block) {
+            PsiElement parent = block.getParent();
+            if (parent instanceof PsiMethod || parent instanceof PsiClassInitializer || parent instanceof PsiLambdaExpression) {
+                // The body of a method, an initializer or a lambda doesn't contribute to properties
+                hash = hash * 1_000_003L + '{';
+                return;
+            }
+            super.visitCodeBlock(block);
+        }
+    }
+}
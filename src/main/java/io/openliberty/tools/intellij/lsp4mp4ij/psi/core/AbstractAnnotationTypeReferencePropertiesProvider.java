@@ -34,6 +34,11 @@ public abstract class AbstractAnnotationTypeReferencePropertiesProvider extends
 		return getAnnotationNames();
 	}
 
+	@Override
+	public String[] getRequiredTypes() {
+		return getAnnotationNames();
+	}
+
 	/**
 	 * Returns the annotation names to search.
 	 * 
@@ -29,9 +29,13 @@ import java.nio.charset.StandardCharsets;
 public abstract class AbstractStaticPropertiesProvider extends AbstractPropertiesProvider {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractStaticPropertiesProvider.class);
 
+	// EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
+	// coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
+	private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+
 	private final String path;
 
-	private ConfigurationMetadata metadata;
+	private volatile ConfigurationMetadata metadata;
 
 	private final MergingStrategy mergingStrategy;
 
@@ -71,6 +75,19 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * @param context the building scope context
 	 */
 	protected void collectStaticProperties(SearchContext context) {
+		ConfigurationMetadata metadata = loadMetadata();
+		if (metadata != null) {
+			context.getCollector().merge(metadata, mergingStrategy);
+		}
+	}
+
+	/**
+	 * Returns the metadata parsed the first time it is requested. The provider is an
+	 * application extension, so the metadata is parsed once per IDE process.
+	 *
+	 * @return the metadata and null if it cannot be loaded.
+	 */
+	public ConfigurationMetadata loadMetadata() {
 		if (metadata == null) {
 			try {
 				metadata = getMetadata();
@@ -78,9 +95,7 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 				LOGGER.warn(e.getLocalizedMessage(), e);
 			}
 		}
-		if (metadata != null) {
-			context.getCollector().merge(metadata, mergingStrategy);
-		}
+		return metadata;
 	}
 
 	/**
@@ -92,9 +107,13 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * @throws IOException
 	 */
 	protected ConfigurationMetadata getMetadata() throws IOException {
-		InputStream in = getInputStream();
-		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.name());
-		return createGson().fromJson(reader, ConfigurationMetadata.class);
+		try (InputStream in = getInputStream()) {
+			if (in == null) {
+				return null;
+			}
+			Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.name());
+			return GSON.fromJson(reader, ConfigurationMetadata.class);
+		}
 	}
 
 	/**
@@ -116,13 +135,6 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 		return stream;
 	}
 
-	private static Gson createGson() {
-		// EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
-		// coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
-		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
-	}
-
-
 	@Override
 	public void collectProperties(PsiModifierListOwner match, SearchContext context) {
 		// Do nothing
@@ -35,6 +35,11 @@ public abstract class AbstractTypeDeclarationPropertiesProvider extends Abstract
 		return getTypeNames();
 	}
 
+	@Override
+	public String[] getRequiredTypes() {
+		return getTypeNames();
+	}
+
 	/**
 	 * Returns the type names to search.
 	 * 
@@ -37,6 +37,23 @@ public interface IPropertiesProvider {
 	default void endSearch(SearchContext context) {
 	}
 
+	/**
+	 * Returns the fully qualified names of the Java types (ex : annotations) whose
+	 * presence on the classpath is required to collect properties, and null if the
+	 * provider must always be executed.
+	 * 
+	 * <p>
+	 * The provider is skipped when none of these types is on the classpath of the
+	 * project.
+	 * </p>
+	 * 
+	 * @return the fully qualified names of the required Java types and null
+	 *         otherwise.
+	 */
+	default String[] getRequiredTypes() {
+		return null;
+	}
+
 	/**
 	 * Create the search query.
 	 * 
@@ -11,20 +11,36 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
 import com.intellij.util.UniqueResultsQuery;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfileProjectInfoCache;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.LibraryPropertiesCache;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertyProviderExtensionPointBean;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
@@ -35,6 +51,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -42,10 +59,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * MicroProfile properties manager used to:
@@ -62,6 +85,17 @@ public class PropertiesManager {
 
     private static final PropertiesManager INSTANCE = new PropertiesManager();
 
+    /**
+     * Registry key to opt in the concurrent collect of the properties of the search matches.
+     */
+    private static final String PARALLEL_SCAN_REGISTRY_KEY = "liberty.tools.microprofile.properties.parallelScan";
+
+    /**
+     * Registry key to opt in to return the project info without the properties of the library JARs which are not
+     * cached yet, while they are scanned in background.
+     */
+    private static final String PARTIAL_RESULT_REGISTRY_KEY = "liberty.tools.microprofile.properties.partialResult";
+
     public static PropertiesManager getInstance() {
         return INSTANCE;
     }
@@ -100,43 +134,340 @@ public class PropertiesManager {
                 .collect(Collectors.joining("+")) //
                 + "'");
         long startTime = System.currentTimeMillis();
-        boolean excludeTestCode = classpathKind == ClasspathKind.SRC;
+        MicroProfileProjectInfoCache cache = MicroProfileProjectInfoCache.getInstance(module.getProject());
+        MicroProfileProjectInfoCache.CachedProjectInfo cached = cache.get(module, scopes, classpathKind, documentFormat);
+        if (cached != null) {
+            synchronized (cached) {
+                Map<VirtualFile, Long> changedFiles = cached.getChangedFiles();
+                if (!changedFiles.isEmpty()) {
+                    // Only the changed Java files and the files which reference their types are re-collected and
+                    // patched into the cached project info
+                    PsiManager psiManager = PsiManager.getInstance(module.getProject());
+                    Set<VirtualFile> dependentFiles = cached.getDependentFiles(changedFiles.keySet(), psiManager);
+                    Set<VirtualFile> files = new HashSet<>(changedFiles.keySet());
+                    files.addAll(dependentFiles);
+                    Map<VirtualFile, Set<String>> sourceTypes = new HashMap<>();
+                    MicroProfileProjectInfo delta = collectChangedFiles(module, files, scopes, classpathKind,
+                            utils, documentFormat, sourceTypes, monitor);
+                    cached.patch(changedFiles, dependentFiles, delta, sourceTypes, psiManager);
+                }
+                LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' incrementally ("
+                        + changedFiles.size() + " changed files) in " + (System.currentTimeMillis() - startTime) + "ms.");
+                return cached.toProjectInfo();
+            }
+        }
+        long modificationCount = cache.getModificationCount();
+        Map<VirtualFile, Set<String>> sourceTypes = new HashMap<>();
         PropertiesCollector collector = new PropertiesCollector(info, scopes);
-        if (module != null) {
-            SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST);
-            SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat);
-            Query<PsiModifierListOwner> query = createSearchQuery(context);
+        // After a cancelled background scan, the missing JARs are scanned now to return a complete project info
+        boolean partialResult = isPartialResultEnabled() && !cache.isLibraryScanCancelled(module);
+        List<VirtualFile> pendingJarRoots = partialResult ? new ArrayList<>() : null;
+        SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST);
+        if (!MicroProfilePropertiesScope.isOnlySources(scopes)) {
+            // Properties of library JARs come from the persistent cache, the JARs are excluded from the search
+            VirtualFile[] jarRoots = collectLibraryProperties(module, scopes, utils, documentFormat, collector,
+                    pendingJarRoots, monitor);
+            if (jarRoots.length > 0) {
+                scope = scope.intersectWith(GlobalSearchScope.notScope(
+                        GlobalSearchScopesCore.directoriesScope(module.getProject(), true, jarRoots)));
+            }
+        }
+        collectProperties(new SearchContext(module, scope, collector, utils, documentFormat), getPropertiesProviders(),
+                sourceTypes, monitor);
+        if (pendingJarRoots != null && !pendingJarRoots.isEmpty()) {
+            // Return the sources and cached JARs properties now, the missing JARs are scanned in background and the
+            // language server is notified to request the complete project info once they are cached.
+            scheduleLibraryScan(module, pendingJarRoots, scopes, utils, documentFormat);
+            LOGGER.info("End computing partial MicroProfile properties for '" + info.getProjectURI() + "' ("
+                    + pendingJarRoots.size() + " pending JARs) in " + (System.currentTimeMillis() - startTime) + "ms.");
+            return info;
+        }
+        cached = cache.put(module, scopes, classpathKind, documentFormat, info, sourceTypes, modificationCount);
+        LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
+                + (System.currentTimeMillis() - startTime) + "ms.");
+        return cached != null ? cached.toProjectInfo() : info;
+    }
+
+    /**
+     * Collect the properties of the given changed Java files by using only the dynamic properties providers (static
+     * properties don't depend on Java sources).
+     */
+    private MicroProfileProjectInfo collectChangedFiles(Module module, Set<VirtualFile> changedFiles,
+                                                       List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind,
+                                                       IPsiUtils utils, DocumentFormat documentFormat,
+                                                       Map<VirtualFile, Set<String>> sourceTypes, ProgressIndicator monitor) {
+        MicroProfileProjectInfo delta = createInfo(module, classpathKind);
+        PropertiesCollector collector = new PropertiesCollector(delta, scopes);
+        List<VirtualFile> existingFiles = changedFiles.stream()
+                .filter(VirtualFile::isValid)
+                .collect(Collectors.toList());
+        if (existingFiles.isEmpty()) {
+            return delta;
+        }
+        SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST)
+                .intersectWith(GlobalSearchScope.filesScope(module.getProject(), existingFiles));
+        collectProperties(new SearchContext(module, scope, collector, utils, documentFormat),
+                IPropertiesProvider.EP_NAME.getExtensionList(), sourceTypes, monitor);
+        return delta;
+    }
+
+    /**
+     * Collect the properties of the library JARs of the given module from the {@link LibraryPropertiesCache}. The JARs
+     * which are not loaded in memory yet are scanned with the dynamic properties providers and stored in the cache, or
+     * added to the given pending JARs when they are not null. The cache files are not read in the read action of the
+     * scan, they are loaded before by {@link #loadLibraryProperties(Module)} and by the background scan.
+     *
+     * @return the roots of the collected and pending JARs.
+     */
+    private VirtualFile[] collectLibraryProperties(Module module, List<MicroProfilePropertiesScope> scopes, IPsiUtils utils,
+                                                   DocumentFormat documentFormat, PropertiesCollector collector,
+                                                   @Nullable List<VirtualFile> pendingJarRoots, ProgressIndicator monitor) {
+        LibraryPropertiesCache libraryCache = LibraryPropertiesCache.getInstance();
+        List<IPropertiesProvider> providers = getLibraryPropertiesProviders(module);
+        String providersKey = getProvidersKey(providers);
+        List<VirtualFile> jarRoots = new ArrayList<>();
+        for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+            monitor.checkCanceled();
+            VirtualFile jarFile = LibraryPropertiesCache.getJarFile(root);
+            if (jarFile == null) {
+                // Classes directory, it is scanned with the module
+                continue;
+            }
+            jarRoots.add(root);
+            ConfigurationMetadata metadata = libraryCache.get(jarFile, documentFormat, providersKey);
+            if (metadata == null) {
+                if (pendingJarRoots != null) {
+                    pendingJarRoots.add(root);
+                    continue;
+                }
+                metadata = collectLibraryProperties(module, root, jarFile, providers, providersKey, scopes, utils,
+                        documentFormat, monitor);
+            }
+            collector.addAll(metadata);
+        }
+        return jarRoots.toArray(VirtualFile.EMPTY_ARRAY);
+    }
+
+    private ConfigurationMetadata collectLibraryProperties(Module module, VirtualFile root, VirtualFile jarFile,
+                                                           List<IPropertiesProvider> providers, String providersKey,
+                                                           List<MicroProfilePropertiesScope> scopes, IPsiUtils utils,
+                                                           DocumentFormat documentFormat, ProgressIndicator monitor) {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        SearchScope jarScope = GlobalSearchScopesCore.directoryScope(module.getProject(), root, true);
+        collectProperties(new SearchContext(module, jarScope, new PropertiesCollector(metadata, scopes), utils, documentFormat),
+                providers, new HashMap<>(), monitor);
+        // Each scanned JAR is a checkpoint: a cancelled scan resumes from the JARs which are not cached yet
+        LibraryPropertiesCache.getInstance().put(jarFile, documentFormat, providersKey, metadata);
+        return metadata;
+    }
+
+    /**
+     * Returns the adapted providers which are applied to each library JAR separately: the dynamic providers, except
+     * the type declaration providers which search their types in the whole classpath and are applied by the main
+     * search only.
+     */
+    private static List<IPropertiesProvider> getLibraryPropertiesProviders(Module module) {
+        List<IPropertiesProvider> providers = IPropertiesProvider.EP_NAME.getExtensionList()
+                .stream()
+                .filter(provider -> !(provider instanceof AbstractTypeDeclarationPropertiesProvider))
+                .collect(Collectors.toList());
+        return getAdaptedProviders(providers, module);
+    }
+
+    private static String getProvidersKey(List<IPropertiesProvider> providers) {
+        return providers.stream()
+                .map(provider -> provider.getClass().getName())
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Scans in background the library JARs skipped by a partial project info and notifies
+     * {@link MicroProfileProjectInfoCache#TOPIC} when they are all cached, so that the language server requests the
+     * complete project info.
+     */
+    private void scheduleLibraryScan(Module module, List<VirtualFile> jarRoots, List<MicroProfilePropertiesScope> scopes,
+                                     IPsiUtils utils, DocumentFormat documentFormat) {
+        Project project = module.getProject();
+        MicroProfileProjectInfoCache cache = MicroProfileProjectInfoCache.getInstance(project);
+        if (!cache.startLibraryScan(module)) {
+            // The libraries of the module are already being scanned
+            return;
+        }
+        ApplicationManager.getApplication().invokeLater(() -> {
+            new Task.Backgroundable(project, "Scanning MicroProfile properties of '" + module.getName() + "' libraries", true) {
+                @Override
+                public void run(@NotNull ProgressIndicator indicator) {
+                    boolean completed = false;
+                    try {
+                        indicator.setIndeterminate(false);
+                        String loadedProvidersKey = ReadAction.nonBlocking(() -> module.isDisposed() ? null
+                                        : getProvidersKey(getLibraryPropertiesProviders(module)))
+                                .inSmartMode(project)
+                                .executeSynchronously();
+                        for (int i = 0; i < jarRoots.size(); i++) {
+                            indicator.checkCanceled();
+                            indicator.setFraction((double) i / jarRoots.size());
+                            VirtualFile root = jarRoots.get(i);
+                            VirtualFile loadedJarFile = root.isValid() ? LibraryPropertiesCache.getJarFile(root) : null;
+                            if (loadedProvidersKey != null && loadedJarFile != null && LibraryPropertiesCache.getInstance()
+                                    .load(loadedJarFile, documentFormat, loadedProvidersKey) != null) {
+                                // The JAR has been scanned by another project or before a restart, its cache file is
+                                // read outside of the read action
+                                continue;
+                            }
+                            ReadAction.nonBlocking(() -> {
+                                        VirtualFile jarFile = root.isValid() ? LibraryPropertiesCache.getJarFile(root) : null;
+                                        if (jarFile == null || module.isDisposed()) {
+                                            return;
+                                        }
+                                        List<IPropertiesProvider> providers = getLibraryPropertiesProviders(module);
+                                        String providersKey = getProvidersKey(providers);
+                                        if (LibraryPropertiesCache.getInstance().get(jarFile, documentFormat, providersKey) == null) {
+                                            collectLibraryProperties(module, root, jarFile, providers, providersKey,
+                                                    scopes, utils, documentFormat, indicator);
+                                        }
+                                    })
+                                    .inSmartMode(project)
+                                    .executeSynchronously();
+                        }
+                        completed = true;
+                    } finally {
+                        cache.endLibraryScan(module, completed);
+                    }
+                }
+            }.queue();
+        }, ModalityState.defaultModalityState(), project.getDisposed());
+    }
+
+    private static boolean isPartialResultEnabled() {
+        return !ApplicationManager.getApplication().isUnitTestMode() && Registry.is(PARTIAL_RESULT_REGISTRY_KEY, false);
+    }
+
+    private void collectProperties(SearchContext context, List<IPropertiesProvider> allProviders,
+                                   Map<VirtualFile, Set<String>> sourceTypes, ProgressIndicator monitor) {
+        List<IPropertiesProvider> providers = getAdaptedProviders(allProviders, context.getJavaProject());
+        Query<PsiModifierListOwner> query = createSearchQuery(context, providers);
+        if (query != null && Registry.is(PARALLEL_SCAN_REGISTRY_KEY, false)
+                && context.getCollector() instanceof PropertiesCollector collector) {
+            collectPropertiesInParallel(context, collector, query, providers, sourceTypes, monitor);
+            return;
+        }
+        PsiManager psiManager = PsiManager.getInstance(context.getJavaProject().getProject());
+        try {
+            beginSearch(context, providers, monitor);
             if (query != null) {
+                query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> {
+                    collectProperties(psiMember, context, providers, monitor);
+                    trackSourceTypes(psiMember, sourceTypes, psiManager);
+                });
+            }
+        }
+        finally {
+            endSearch(context, providers, monitor);
+        }
+    }
+
+    /**
+     * Collect the properties by splitting the matches of the query in contiguous parts which are collected
+     * concurrently by all the dynamic properties providers, each part with its own collector. The collected parts are
+     * then merged in order, and the static properties providers are executed on the given context, so that the
+     * result is the same as with the sequential collect.
+     */
+    private void collectPropertiesInParallel(SearchContext context, PropertiesCollector collector,
+                                             Query<PsiModifierListOwner> query, List<IPropertiesProvider> providers,
+                                             Map<VirtualFile, Set<String>> sourceTypes, ProgressIndicator monitor) {
+        PsiManager psiManager = PsiManager.getInstance(context.getJavaProject().getProject());
+        List<IPropertiesProvider> dynamicProviders = new ArrayList<>();
+        List<IPropertiesProvider> staticProviders = new ArrayList<>();
+        for (IPropertiesProvider provider : providers) {
+            (provider instanceof AbstractStaticPropertiesProvider ? staticProviders : dynamicProviders).add(provider);
+        }
+        try {
+            beginSearch(context, staticProviders, monitor);
+            List<PsiModifierListOwner> matches = new ArrayList<>();
+            query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> {
+                monitor.checkCanceled();
+                matches.add(psiMember);
+                trackSourceTypes(psiMember, sourceTypes, psiManager);
+            });
+            List<List<PsiModifierListOwner>> parts = partition(matches, Runtime.getRuntime().availableProcessors());
+            ConfigurationMetadata[] results = new ConfigurationMetadata[parts.size()];
+            List<Integer> indexes = IntStream.range(0, parts.size()).boxed().collect(Collectors.toList());
+            // JobLauncher runs the tasks with the read access of the current thread
+            boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes, monitor, index -> {
+                ConfigurationMetadata metadata = new ConfigurationMetadata();
+                SearchContext partContext = new SearchContext(context.getJavaProject(), context.getScope(),
+                        new PropertiesCollector(metadata, collector.getScopes()), context.getUtils(),
+                        context.getDocumentFormat());
                 try {
-                    beginSearch(context, monitor);
-                    query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> collectProperties(psiMember, context, monitor));
+                    beginSearch(partContext, dynamicProviders, monitor);
+                    for (PsiModifierListOwner match : parts.get(index)) {
+                        collectProperties(match, partContext, dynamicProviders, monitor);
+                    }
+                } finally {
+                    endSearch(partContext, dynamicProviders, monitor);
                 }
-                finally {
-                    endSearch(context, monitor);
+                results[index] = metadata;
+                return true;
+            });
+            if (!completed) {
+                monitor.checkCanceled();
+            }
+            for (ConfigurationMetadata metadata : results) {
+                if (metadata != null) {
+                    collector.addAll(metadata);
                 }
             }
+        } finally {
+            endSearch(context, staticProviders, monitor);
+        }
+    }
+
+    /**
+     * Split the given matches in at most the given count of contiguous parts of the same size.
+     */
+    private static List<List<PsiModifierListOwner>> partition(List<PsiModifierListOwner> matches, int count) {
+        List<List<PsiModifierListOwner>> parts = new ArrayList<>();
+        int size = Math.max(1, (matches.size() + count - 1) / count);
+        for (int start = 0; start < matches.size(); start += size) {
+            parts.add(matches.subList(start, Math.min(start + size, matches.size())));
+        }
+        return parts;
+    }
+
+    /**
+     * Track the Java types declared in the source file of the given member to patch the project info when this file changes.
+     */
+    private static void trackSourceTypes(PsiModifierListOwner psiMember, Map<VirtualFile, Set<String>> sourceTypes,
+                                         PsiManager psiManager) {
+        if (PsiTypeUtils.isBinary(psiMember)) {
+            return;
+        }
+        PsiFile psiFile = psiMember.getContainingFile();
+        VirtualFile file = psiFile != null ? psiFile.getVirtualFile() : null;
+        if (file != null) {
+            sourceTypes.computeIfAbsent(file, f -> MicroProfileProjectInfoCache.getDeclaredTypes(f, psiManager));
         }
-        LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
-                + (System.currentTimeMillis() - startTime) + "ms.");
-        return info;
     }
 
-    private void beginSearch(SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
+    private void beginSearch(SearchContext context, List<IPropertiesProvider> providers, ProgressIndicator monitor) {
+        for (IPropertiesProvider provider : providers) {
             monitor.checkCanceled();
             provider.beginSearch(context);
         }
     }
 
-    private void endSearch(SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
+    private void endSearch(SearchContext context, List<IPropertiesProvider> providers, ProgressIndicator monitor) {
+        for (IPropertiesProvider provider : providers) {
             monitor.checkCanceled();
             provider.endSearch(context);
         }
     }
 
-    private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
+    private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, List<IPropertiesProvider> providers,
+                                   ProgressIndicator monitor) {
+        for (IPropertiesProvider provider : providers) {
             monitor.checkCanceled();
             provider.collectProperties(psiMember, context);
         }
@@ -171,10 +502,94 @@ public class PropertiesManager {
         return searchScope;
     }
 
-    private @Nullable Query<PsiModifierListOwner> createSearchQuery(SearchContext context) {
+    /**
+     * Loads in memory the properties of the library JARs of the given module which are stored in the cache files of
+     * {@link LibraryPropertiesCache}, so that the project info computed in a read action doesn't scan them again. The
+     * cache files are read outside of any read action, so this method must be called in a background thread.
+     *
+     * @param module the module.
+     */
+    public void loadLibraryProperties(@NotNull Module module) {
+        Pair<String, List<VirtualFile>> jarFiles = ReadAction.nonBlocking(() -> {
+                    if (module.isDisposed()) {
+                        return null;
+                    }
+                    List<VirtualFile> files = new ArrayList<>();
+                    for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+                        VirtualFile jarFile = LibraryPropertiesCache.getJarFile(root);
+                        if (jarFile != null) {
+                            files.add(jarFile);
+                        }
+                    }
+                    return Pair.create(getProvidersKey(getLibraryPropertiesProviders(module)), files);
+                })
+                .inSmartMode(module.getProject())
+                .executeSynchronously();
+        if (jarFiles == null) {
+            return;
+        }
+        LibraryPropertiesCache libraryCache = LibraryPropertiesCache.getInstance();
+        for (VirtualFile jarFile : jarFiles.getSecond()) {
+            // The document format of the language server is not known yet
+            for (DocumentFormat documentFormat : DocumentFormat.values()) {
+                ProgressManager.checkCanceled();
+                libraryCache.load(jarFile, documentFormat, jarFiles.getFirst());
+            }
+        }
+    }
+
+    /**
+     * Pre-warms the caches used by the first project info request and the first Java validation of the given module:
+     * the Java types required by the properties providers, the static properties metadata of the adapted providers
+     * and the config sources of the module.
+     * <p>
+     * A module is skipped when none of the properties providers which require a Java type is adapted for it (ex : a
+     * module without MicroProfile on its classpath).
+     * </p>
+     *
+     * @param module the module.
+     * @return true if the caches of the given module have been pre-warmed and false if the module has been skipped.
+     */
+    public boolean preload(@NotNull Module module) {
+        if (module.isDisposed()) {
+            return false;
+        }
+        List<IPropertiesProvider> adaptedProviders = getAdaptedProviders(getPropertiesProviders(), module);
+        if (adaptedProviders.stream().allMatch(provider -> provider.getRequiredTypes() == null)) {
+            return false;
+        }
+        for (IPropertiesProvider provider : adaptedProviders) {
+            ProgressManager.checkCanceled();
+            if (provider instanceof AbstractStaticPropertiesProvider staticProvider) {
+                staticProvider.loadMetadata();
+            }
+        }
+        PsiMicroProfileProjectManager.getInstance(module.getProject())
+                .getInternalMicroProfileProject(module)
+                .preload();
+        return true;
+    }
+
+    /**
+     * Returns the providers whose required types are on the classpath of the given module.
+     */
+    private static List<IPropertiesProvider> getAdaptedProviders(List<IPropertiesProvider> providers, Module module) {
+        PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(module.getProject())
+                .getInternalMicroProfileProject(module);
+        List<IPropertiesProvider> adaptedProviders = new ArrayList<>(providers.size());
+        for (IPropertiesProvider provider : providers) {
+            String[] requiredTypes = provider.getRequiredTypes();
+            if (requiredTypes == null || Arrays.stream(requiredTypes).anyMatch(mpProject::hasType)) {
+                adaptedProviders.add(provider);
+            }
+        }
+        return adaptedProviders;
+    }
+
+    private @Nullable Query<PsiModifierListOwner> createSearchQuery(SearchContext context, List<IPropertiesProvider> providers) {
         Query<PsiModifierListOwner> query = null;
 
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
+        for (IPropertiesProvider provider : providers) {
             Query<PsiModifierListOwner> providerQuery = provider.createSearchPattern(context);
             if (providerQuery != null) {
                 if (query == null) {
@@ -184,7 +599,8 @@ public class PropertiesManager {
                 }
             }
         }
-        return new UniqueResultsQuery<>(query);
+        // All providers can be skipped when their types are not on the classpath
+        return query != null ? new UniqueResultsQuery<>(query) : null;
     }
 
     @NotNull
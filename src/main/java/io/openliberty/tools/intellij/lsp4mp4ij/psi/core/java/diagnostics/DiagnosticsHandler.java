@@ -12,15 +12,29 @@
 
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
 
+import com.google.gson.JsonElement;
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
 import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.ConfigSourceFileIndex;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticRelatedInformation;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
@@ -36,10 +50,39 @@ public final class DiagnosticsHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsHandler.class);
 
+    /**
+     * Registry key to collect the diagnostics of the URIs of a same request concurrently.
+     */
+    private static final String PARALLEL_REGISTRY_KEY = "liberty.tools.java.diagnostics.parallel";
+
     private final String group;
 
+    private final Key<CachedDiagnostics> cachedDiagnosticsKey;
+
+    /**
+     * Diagnostics of a Java file with the state of the project they have been computed for. The diagnostics are
+     * mutable, they are copied when they are cached and when they are returned.
+     */
+    private record CachedDiagnostics(DiagnosticsCacheKey key, List<Diagnostic> diagnostics) {
+    }
+
+    /**
+     * State of the project which the diagnostics of a Java file depend on.
+     *
+     * <p>
+     * The participants also use other files: the Java types referenced by the file, whose changes are tracked by the
+     * modification count of the Java structure of the project (a method body edit doesn't change it), and the config
+     * sources of the module (ex : microprofile-config.properties, also in the output directory).
+     * </p>
+     */
+    private record DiagnosticsCacheKey(long fileModificationStamp, long rootsModificationCount,
+                                       long javaStructureModificationCount, long configSourcesModificationCount,
+                                       DocumentFormat documentFormat, List<String> patterns) {
+    }
+
     public DiagnosticsHandler(String group) {
         this.group = group;
+        this.cachedDiagnosticsKey = Key.create("liberty.tools.java.diagnostics." + group);
     }
 
     public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
@@ -48,12 +91,27 @@ public final class DiagnosticsHandler {
             return Collections.emptyList();
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>();
+        MicroProfileJavaDiagnosticsSettings settings = params.getSettings();
+        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>(uris.size());
         for (String uri : uris) {
-            List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
+            publishDiagnostics.add(new PublishDiagnosticsParams(uri, new ArrayList<>()));
+        }
+        if (uris.size() > 1 && Registry.is(PARALLEL_REGISTRY_KEY, true)) {
+            // JobLauncher runs the tasks with the read access of the current thread, and cancels them when the
+            // current progress indicator is cancelled (ex : when the request is coalesced by a newer one).
+            ProgressIndicator monitor = ProgressManager.getInstance().getProgressIndicator();
+            boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(publishDiagnostics, monitor, publishDiagnostic -> {
+                collectDiagnostics(publishDiagnostic.getUri(), utils, documentFormat, settings, publishDiagnostic.getDiagnostics());
+                return true;
+            });
+            if (!completed) {
+                ProgressManager.checkCanceled();
+            }
+        } else {
+            for (PublishDiagnosticsParams publishDiagnostic : publishDiagnostics) {
+                ProgressManager.checkCanceled();
+                collectDiagnostics(publishDiagnostic.getUri(), utils, documentFormat, settings, publishDiagnostic.getDiagnostics());
+            }
         }
         return publishDiagnostics;
     }
@@ -64,6 +122,14 @@ public final class DiagnosticsHandler {
         if (typeRoot == null) {
             return;
         }
+        DiagnosticsCacheKey cacheKey = ApplicationManager.getApplication().runReadAction((Computable<DiagnosticsCacheKey>) () ->
+                getCacheKey(typeRoot, documentFormat, settings));
+        CachedDiagnostics cachedDiagnostics = typeRoot.getUserData(cachedDiagnosticsKey);
+        if (cachedDiagnostics != null && cachedDiagnostics.key().equals(cacheKey)) {
+            // The file and the project have not changed since the last computation
+            copyDiagnostics(cachedDiagnostics.diagnostics(), diagnostics);
+            return;
+        }
 
         try {
             Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
@@ -78,17 +144,81 @@ public final class DiagnosticsHandler {
             // Begin, collect, end participants
             definitions.forEach(definition -> definition.beginDiagnostics(context));
             definitions.forEach(definition -> {
+                ProgressManager.checkCanceled();
                 List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
                 if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
                     diagnostics.addAll(collectedDiagnostics);
                 }
             });
             definitions.forEach(definition -> definition.endDiagnostics(context));
+            if (context.isParticipantFailed()) {
+                // The diagnostics are incomplete, they are computed again by the next request
+                typeRoot.putUserData(cachedDiagnosticsKey, null);
+            } else {
+                List<Diagnostic> copy = new ArrayList<>(diagnostics.size());
+                copyDiagnostics(diagnostics, copy);
+                typeRoot.putUserData(cachedDiagnosticsKey, new CachedDiagnostics(cacheKey, Collections.unmodifiableList(copy)));
+            }
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
         }
     }
 
+    private static DiagnosticsCacheKey getCacheKey(PsiFile typeRoot, DocumentFormat documentFormat,
+                                                   MicroProfileJavaDiagnosticsSettings settings) {
+        Module module = ModuleUtilCore.findModuleForPsiElement(typeRoot);
+        return new DiagnosticsCacheKey(typeRoot.getModificationStamp(),
+                ProjectRootModificationTracker.getInstance(typeRoot.getProject()).getModificationCount(),
+                ClasspathResourceChangedManager.getInstance(typeRoot.getProject()).getJavaStructureModificationTracker().getModificationCount(),
+                module != null ? ConfigSourceFileIndex.getInstance(typeRoot.getProject()).getModificationTracker(module).getModificationCount() : 0,
+                documentFormat,
+                settings != null && settings.getPatterns() != null ? new ArrayList<>(settings.getPatterns()) : Collections.emptyList());
+    }
+
+    private static void copyDiagnostics(List<Diagnostic> diagnostics, List<Diagnostic> copies) {
+        for (Diagnostic diagnostic : diagnostics) {
+            copies.add(copyDiagnostic(diagnostic));
+        }
+    }
+
+    private static Diagnostic copyDiagnostic(Diagnostic diagnostic) {
+        Diagnostic copy = new Diagnostic();
+        copy.setRange(copyRange(diagnostic.getRange()));
+        copy.setSeverity(diagnostic.getSeverity());
+        copy.setCode(diagnostic.getCode());
+        copy.setCodeDescription(diagnostic.getCodeDescription());
+        copy.setSource(diagnostic.getSource());
+        copy.setMessage(diagnostic.getMessage());
+        if (diagnostic.getTags() != null) {
+            copy.setTags(new ArrayList<>(diagnostic.getTags()));
+        }
+        if (diagnostic.getRelatedInformation() != null) {
+            List<DiagnosticRelatedInformation> relatedInformation = new ArrayList<>(diagnostic.getRelatedInformation().size());
+            for (DiagnosticRelatedInformation information : diagnostic.getRelatedInformation()) {
+                Location location = information.getLocation();
+                relatedInformation.add(new DiagnosticRelatedInformation(
+                        location != null ? new Location(location.getUri(), copyRange(location.getRange())) : null,
+                        information.getMessage()));
+            }
+            copy.setRelatedInformation(relatedInformation);
+        }
+        Object data = diagnostic.getData();
+        // The data of the participants is JSON (ex : the diagnostic code and the Java element) or immutable
+        copy.setData(data instanceof JsonElement json ? json.deepCopy() : data);
+        return copy;
+    }
+
+    private static Range copyRange(Range range) {
+        if (range == null) {
+            return null;
+        }
+        return new Range(copyPosition(range.getStart()), copyPosition(range.getEnd()));
+    }
+
+    private static Position copyPosition(Position position) {
+        return position != null ? new Position(position.getLine(), position.getCharacter()) : null;
+    }
+
     // REVISIT: Make this a public method on a common utility class?
     private static PsiFile resolveTypeRoot(String uri, IPsiUtils utils) {
         return utils.resolveCompilationUnit(uri);
@@ -37,6 +37,8 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
 
 	private final MicroProfileJavaDiagnosticsSettings settings;
 
+	private volatile boolean participantFailed;
+
 	public JavaDiagnosticsContext(String uri, PsiFile typeRoot, IPsiUtils utils, Module module, DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
 		super(uri, typeRoot, utils, module);
 		this.documentFormat = documentFormat;
@@ -62,6 +64,22 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
 		return this.settings;
 	}
 
+	/**
+	 * Marks that a participant has failed, the collected diagnostics are incomplete.
+	 */
+	public void setParticipantFailed() {
+		this.participantFailed = true;
+	}
+
+	/**
+	 * Returns true if a participant has failed and the collected diagnostics are incomplete, and false otherwise.
+	 *
+	 * @return true if a participant has failed and false otherwise.
+	 */
+	public boolean isParticipantFailed() {
+		return participantFailed;
+	}
+
 	public Diagnostic createDiagnostic(String uri, String message, Range range, String source, IJavaErrorCode code) {
 		return createDiagnostic(uri, message, range, source, code, DiagnosticSeverity.Warning);
 	}
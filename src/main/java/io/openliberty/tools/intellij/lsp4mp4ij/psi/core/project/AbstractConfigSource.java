@@ -9,11 +9,14 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
 
-import com.intellij.openapi.compiler.CompilerPaths;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.impl.LoadTextUtil;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiFile;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
@@ -49,6 +52,8 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     private VirtualFile sourceConfigFile;
     private long lastModified = -1L;
     private T config;
+    // content of the PSI file used by the last reload, null when the config has been loaded from the file
+    private CharSequence reloadedContent;
 
     private Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
 
@@ -69,20 +74,22 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
         this.profile = profile;
         this.ordinal = ordinal;
         this.javaProject = javaProject;
-        // load config file to udpate some fields like lastModified, config instance
-        // which must be updated when the config source is created. It's important that
-        // those fields are initialized here (and not in lazy mode) to prevent from
-        // multi
-        // thread
-        // context.
-        init();
+        // The config file is loaded lazily on the first property access: creating the config sources of a module
+        // doesn't parse its config files. The methods which load the config are synchronized to prevent from
+        // multi thread context.
     }
 
-    private void init() {
+    /**
+     * Loads the config and the property informations if needed and returns the property informations.
+     *
+     * @return the property informations and null if the config cannot be loaded.
+     */
+    private synchronized Map<String, List<MicroProfileConfigPropertyInformation>> init() {
         T config = getConfig();
         if (config != null && propertyInformations == null) {
             propertyInformations = loadPropertyInformations();
         }
+        return propertyInformations;
     }
 
     /**
@@ -93,34 +100,23 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
      * capability to get the filtered value.
      * </p>
      *
+     * <p>
+     * The location of the config file is resolved by {@link ConfigSourceFileIndex}, shared by all the config sources
+     * of the module.
+     * </p>
+     *
      * @return the target/classes/$configFile and null otherwise.
      */
     private VirtualFile getOutputConfigFile() {
-        if (outputConfigFile != null && outputConfigFile.exists()) {
+        if (javaProject.isLoaded()) {
+            ConfigSourceFileIndex.ConfigFileLocation location = ConfigSourceFileIndex.getInstance(javaProject.getProject())
+                    .getLocation(javaProject, configFileName);
+            sourceConfigFile = location.sourceFile();
+            outputConfigFile = location.getConfigFile();
             return outputConfigFile;
         }
         sourceConfigFile = null;
         outputConfigFile = null;
-        if (javaProject.isLoaded()) {
-            VirtualFile[] sourceRoots = ModuleRootManager.getInstance(javaProject).getSourceRoots(false);
-            for (VirtualFile sourceRoot : sourceRoots) {
-                VirtualFile file = sourceRoot.findFileByRelativePath(configFileName);
-                if (file != null && file.exists()) {
-                    sourceConfigFile = file;
-                    outputConfigFile = file;
-                }
-            }
-            VirtualFile output = CompilerPaths.getModuleOutputDirectory(javaProject, false);
-            if (output != null) {
-                output = output.findFileByRelativePath(configFileName);
-                if (output != null) {
-                    if (sourceConfigFile == null || output.getModificationStamp() >= sourceConfigFile.getModificationStamp()) {
-                        outputConfigFile = output;
-                    }
-                }
-            }
-            return outputConfigFile;
-        }
         return null;
     }
 
@@ -163,18 +159,35 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
      *
      * @return the loaded config and null otherwise
      */
-    protected final T getConfig() {
+    protected final synchronized T getConfig() {
         VirtualFile configFile = getOutputConfigFile();
         if (configFile == null) {
             reset();
             return null;
         }
+        if (config == null) {
+            CharSequence unsavedContent = getUnsavedContent();
+            if (unsavedContent != null) {
+                // The config source is created again (ex : after the eviction of its project) while the config file
+                // is edited, the content of the editor is used instead of the saved file
+                try {
+                    config = loadConfig(unsavedContent);
+                    reloadedContent = unsavedContent;
+                    lastModified = System.currentTimeMillis();
+                    return config;
+                } catch (Exception e) {
+                    reset();
+                    LOGGER.warn("Error while loading properties from '" + sourceConfigFile + "'.", e);
+                }
+            }
+        }
         try {
             long currentLastModified = configFile.getModificationStamp();
             if (currentLastModified > lastModified) {
                 reset();
-                try (InputStream input = configFile.getInputStream()) {
-                    config = loadConfig(input);
+                try {
+                    // The file is decoded with its charset, like the content of its editor used by reload()
+                    config = loadConfig(LoadTextUtil.loadText(configFile));
                     lastModified = configFile.getModificationStamp();
                 } catch (Exception e) {
                     reset();
@@ -187,17 +200,51 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
         return config;
     }
 
+    /**
+     * Returns the last committed content of the source config file when it is modified in an editor and not saved yet,
+     * and null otherwise.
+     *
+     * @return the last committed content of the unsaved source config file and null otherwise.
+     */
+    private CharSequence getUnsavedContent() {
+        VirtualFile file = sourceConfigFile;
+        if (file == null) {
+            return null;
+        }
+        FileDocumentManager fileDocumentManager = FileDocumentManager.getInstance();
+        Document document = fileDocumentManager.getCachedDocument(file);
+        if (document == null || !fileDocumentManager.isDocumentUnsaved(document)) {
+            return null;
+        }
+        return PsiDocumentManager.getInstance(javaProject.getProject()).getLastCommittedText(document);
+    }
+
     @Override
-    public void reload(PsiFile file) {
-        reset();
-        String content = file.getText();
-        try (InputStream input = IOUtils.toInputStream(content, Charset.defaultCharset())) {
-            config = loadConfig(input);
-            lastModified = System.currentTimeMillis();
+    public synchronized void reload(PsiFile file) {
+        // The content is parsed from the PSI file char sequence without copying it in a String
+        CharSequence content = file.getViewProvider().getContents();
+        if (config != null && reloadedContent != null && StringUtil.equals(content, reloadedContent)) {
+            // The content has not changed since the last reload (ex : file saved without modification)
+            return;
+        }
+        T newConfig;
+        try {
+            newConfig = loadConfig(content);
         } catch (Exception e) {
             reset();
             LOGGER.warn("Error while loading properties from '" + sourceConfigFile + "'.", e);
+            return;
+        }
+        // The old config is kept until the new one is ready, the property informations are updated in place
+        // for the changed properties only when the config source supports it.
+        Map<String, List<MicroProfileConfigPropertyInformation>> infos = propertyInformations;
+        if (config == null || infos == null || !updatePropertyInformations(infos, config, newConfig)) {
+            infos = null;
         }
+        config = newConfig;
+        propertyInformations = infos;
+        reloadedContent = content;
+        lastModified = System.currentTimeMillis();
     }
 
     @Override
@@ -217,12 +264,14 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     private void reset() {
         config = null;
         propertyInformations = null;
+        reloadedContent = null;
     }
 
     @Override
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-        init();
-        return propertyInformations != null ? propertyInformations.get(propertyKey) : null;
+        // The map is returned by init() to read it under the lock of the config source
+        Map<String, List<MicroProfileConfigPropertyInformation>> infos = init();
+        return infos != null ? infos.get(propertyKey) : null;
     }
 
     /**
@@ -234,6 +283,33 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
      */
     protected abstract T loadConfig(InputStream input) throws IOException;
 
+    /**
+     * Load the config model from the given content of the PSI file.
+     *
+     * @param content the content of the PSI file
+     * @return the config model from the given content.
+     * @throws IOException
+     */
+    protected T loadConfig(CharSequence content) throws IOException {
+        try (InputStream input = IOUtils.toInputStream(content, Charset.defaultCharset())) {
+            return loadConfig(input);
+        }
+    }
+
+    /**
+     * Update in place the given property informations with the properties which have changed between the old and the
+     * new config.
+     *
+     * @param propertyInformations the property informations loaded from the old config.
+     * @param oldConfig            the old config.
+     * @param newConfig            the new config.
+     * @return true if the property informations have been updated and false if they must be loaded again.
+     */
+    protected boolean updatePropertyInformations(Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations,
+                                                 T oldConfig, T newConfig) {
+        return false;
+    }
+
     /**
      * Load the property informations.
      *
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.compiler.CompilerPaths;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.util.PathUtil;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the locations of the config files (ex : META-INF/microprofile-config.properties) of the modules.
+ *
+ * <p>
+ * The location of a config file in the source roots and in the output directory of a module is resolved once and
+ * shared by all the config sources of the module, also when the config file doesn't exist. The index is invalidated
+ * when a config file or a directory is created, moved or renamed and when the module roots change. A deleted file is
+ * detected with {@link VirtualFile#isValid()}.
+ * </p>
+ *
+ * <p>
+ * The index also provides a modification tracker of the config sources of each module, which is incremented when the
+ * content of a config file of the module changes (also in the output directory, which is excluded from the content
+ * of the module) and when the locations are invalidated.
+ * </p>
+ */
+public final class ConfigSourceFileIndex implements Disposable {
+
+    private static final Key<Map<String, ConfigFileLocation>> KEY = new Key<>(ConfigSourceFileIndex.class.getName());
+
+    private static final Key<SimpleModificationTracker> MODIFICATION_TRACKER_KEY = new Key<>(ConfigSourceFileIndex.class.getName() + ".modificationTracker");
+
+    public static ConfigSourceFileIndex getInstance(@NotNull Project project) {
+        return project.getService(ConfigSourceFileIndex.class);
+    }
+
+    /**
+     * Location of a config file in a module.
+     *
+     * @param sourceFile the config file in the source roots and null otherwise.
+     * @param outputFile the config file in the output directory and null otherwise.
+     */
+    public record ConfigFileLocation(@Nullable VirtualFile sourceFile, @Nullable VirtualFile outputFile) {
+
+        private static final ConfigFileLocation NONE = new ConfigFileLocation(null, null);
+
+        private boolean isValid() {
+            return (sourceFile == null || sourceFile.isValid()) && (outputFile == null || outputFile.isValid());
+        }
+
+        /**
+         * Returns the output config file when it is more recent than the source config file (to get the filtered
+         * values) and the source config file otherwise.
+         *
+         * @return the config file to load and null if the config file doesn't exist.
+         */
+        public @Nullable VirtualFile getConfigFile() {
+            if (outputFile != null && (sourceFile == null || outputFile.getModificationStamp() >= sourceFile.getModificationStamp())) {
+                return outputFile;
+            }
+            return sourceFile;
+        }
+    }
+
+    private class ConfigFileListener implements BulkFileListener, ModuleRootListener {
+
+        @Override
+        public void after(@NotNull List<? extends VFileEvent> events) {
+            boolean locationsChanged = false;
+            for (VFileEvent event : events) {
+                if (event instanceof VFileContentChangeEvent) {
+                    // The content of a file doesn't change its location
+                    configFileChanged(event.getFile());
+                    continue;
+                }
+                if (!locationsChanged && isDirectoryOrConfigFile(event)) {
+                    locationsChanged = true;
+                }
+            }
+            if (locationsChanged) {
+                invalidate();
+            }
+        }
+
+        @Override
+        public void rootsChanged(@NotNull ModuleRootEvent event) {
+            invalidate();
+        }
+    }
+
+    private final Project project;
+
+    public ConfigSourceFileIndex(Project project) {
+        this.project = project;
+        ConfigFileListener listener = new ConfigFileListener();
+        project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project)).subscribe(ModuleRootListener.TOPIC, listener);
+        ApplicationManager.getApplication().getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project))
+                .subscribe(VirtualFileManager.VFS_CHANGES, listener);
+    }
+
+    /**
+     * Returns the location of the given config file in the given module.
+     *
+     * @param module         the module.
+     * @param configFileName the config file path relative to the source roots (ex : META-INF/microprofile-config.properties).
+     * @return the location of the given config file in the given module.
+     */
+    public @NotNull ConfigFileLocation getLocation(@NotNull Module module, @NotNull String configFileName) {
+        Map<String, ConfigFileLocation> locations = module.getUserData(KEY);
+        if (locations == null) {
+            locations = new ConcurrentHashMap<>();
+            module.putUserData(KEY, locations);
+        }
+        ConfigFileLocation location = locations.get(configFileName);
+        if (location == null || !location.isValid()) {
+            location = findLocation(module, configFileName);
+            locations.put(configFileName, location);
+        }
+        return location;
+    }
+
+    /**
+     * Returns the modification tracker of the config sources of the given module.
+     *
+     * @param module the module.
+     * @return the modification tracker of the config sources of the given module.
+     */
+    public @NotNull ModificationTracker getModificationTracker(@NotNull Module module) {
+        return getOrCreateModificationTracker(module);
+    }
+
+    /**
+     * Increments the modification tracker of the config sources of the given module (ex : when a config source is
+     * reloaded).
+     *
+     * @param module the module.
+     */
+    public void configSourcesChanged(@NotNull Module module) {
+        getOrCreateModificationTracker(module).incModificationCount();
+    }
+
+    private synchronized SimpleModificationTracker getOrCreateModificationTracker(Module module) {
+        SimpleModificationTracker tracker = module.getUserData(MODIFICATION_TRACKER_KEY);
+        if (tracker == null) {
+            tracker = new SimpleModificationTracker();
+            module.putUserData(MODIFICATION_TRACKER_KEY, tracker);
+        }
+        return tracker;
+    }
+
+    private void configFileChanged(VirtualFile file) {
+        if (project.isDisposed() || !isConfigFileName(file.getName())) {
+            return;
+        }
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            Map<String, ConfigFileLocation> locations = module.getUserData(KEY);
+            if (locations != null && locations.values().stream()
+                    .anyMatch(location -> file.equals(location.sourceFile()) || file.equals(location.outputFile()))) {
+                configSourcesChanged(module);
+            }
+        }
+    }
+
+    private static ConfigFileLocation findLocation(Module module, String configFileName) {
+        VirtualFile sourceFile = null;
+        VirtualFile[] sourceRoots = ModuleRootManager.getInstance(module).getSourceRoots(false);
+        for (VirtualFile sourceRoot : sourceRoots) {
+            VirtualFile file = sourceRoot.findFileByRelativePath(configFileName);
+            if (file != null && file.exists()) {
+                sourceFile = file;
+            }
+        }
+        VirtualFile outputFile = null;
+        VirtualFile output = CompilerPaths.getModuleOutputDirectory(module, false);
+        if (output != null) {
+            outputFile = output.findFileByRelativePath(configFileName);
+        }
+        if (sourceFile == null && outputFile == null) {
+            return ConfigFileLocation.NONE;
+        }
+        return new ConfigFileLocation(sourceFile, outputFile);
+    }
+
+    private static boolean isDirectoryOrConfigFile(VFileEvent event) {
+        if (event instanceof VFileCreateEvent createEvent) {
+            return createEvent.isDirectory() || isConfigFileName(createEvent.getChildName());
+        }
+        if (event instanceof VFileCopyEvent copyEvent) {
+            return copyEvent.getFile().isDirectory() || isConfigFileName(copyEvent.getNewChildName());
+        }
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent) {
+            if (!propertyChangeEvent.isRename()) {
+                return false;
+            }
+            return propertyChangeEvent.getFile().isDirectory()
+                    || isConfigFileName(PathUtil.getFileName(propertyChangeEvent.getOldPath()))
+                    || isConfigFileName(PathUtil.getFileName(propertyChangeEvent.getPath()));
+        }
+        // Move, delete events
+        VirtualFile file = event.getFile();
+        return file == null || file.isDirectory() || isConfigFileName(file.getName());
+    }
+
+    private static boolean isConfigFileName(String fileName) {
+        for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensions()) {
+            if (provider.isConfigSource(fileName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invalidate() {
+        if (project.isDisposed()) {
+            return;
+        }
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            module.putUserData(KEY, null);
+            configSourcesChanged(module);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        invalidate();
+    }
+}
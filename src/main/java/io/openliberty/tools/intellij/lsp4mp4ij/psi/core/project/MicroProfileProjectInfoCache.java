@@ -0,0 +1,582 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiSearchHelper;
+import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import com.intellij.util.messages.Topic;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of {@link MicroProfileProjectInfo} computed per module, which is patched incrementally when Java source files change.
+ *
+ * <p>
+ * Each cached project info remembers which Java types were declared in the source files that contributed properties.
+ * When {@link ClasspathResourceChangedManager} reports changed Java files, the properties and hints owned by the types
+ * of those files are removed and replaced with the properties collected from those files only, instead of re-running
+ * the search on the whole module. The source files which reference a type declared in a changed file (ex : a constant
+ * used as property name, or an inherited configuration class) are re-collected with it. A changed Java file is also patched into the project info of the modules which
+ * depend on its module, since their dependencies scope contains its sources. A library change evicts the cache of the
+ * modules which depend on it.
+ * </p>
+ */
+public final class MicroProfileProjectInfoCache implements Disposable {
+
+    public static final Topic<Listener> TOPIC = Topic.create(MicroProfileProjectInfoCache.class.getName(), Listener.class);
+
+    private static final Key<ModuleProjectInfos> KEY = new Key<>(MicroProfileProjectInfoCache.class.getName());
+
+    /**
+     * Above this number of changed files (ex : git checkout), re-scanning the whole module is cheaper than patching.
+     */
+    private static final int MAX_INCREMENTAL_FILES = 50;
+
+    public static MicroProfileProjectInfoCache getInstance(@NotNull Project project) {
+        return project.getService(MicroProfileProjectInfoCache.class);
+    }
+
+    /**
+     * Listener notified when the library JARs skipped by a partial project info have been scanned.
+     */
+    public interface Listener {
+
+        void libraryPropertiesCollected(Module module);
+    }
+
+    /**
+     * Cached project info for a given (classpath kind, scopes, document format).
+     */
+    public static final class CachedProjectInfo {
+
+        private final MicroProfileProjectInfo info;
+
+        private final Map<VirtualFile, Set<String>> sourceTypes;
+
+        // Changed file -> number of changes, used to keep a file which changes again while it is being re-collected
+        private final Map<VirtualFile, Long> changedFiles;
+
+        private CachedProjectInfo(MicroProfileProjectInfo info, Map<VirtualFile, Set<String>> sourceTypes) {
+            this.info = info;
+            this.sourceTypes = new HashMap<>(sourceTypes);
+            this.changedFiles = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Returns a snapshot of the changed Java files which must be re-collected before returning the project info.
+         *
+         * @return a snapshot of the changed Java files which must be re-collected before returning the project info.
+         */
+        public Map<VirtualFile, Long> getChangedFiles() {
+            return new HashMap<>(changedFiles);
+        }
+
+        /**
+         * Returns true if the changes cannot be applied incrementally and false otherwise.
+         *
+         * @return true if the changes cannot be applied incrementally and false otherwise.
+         */
+        public boolean isFullRescanRequired() {
+            return changedFiles.size() > MAX_INCREMENTAL_FILES;
+        }
+
+        private void addChangedFile(VirtualFile file) {
+            changedFiles.merge(file, 1L, Long::sum);
+        }
+
+        /**
+         * Returns the source files which have contributed to the project info and reference, directly or through
+         * another contributing file, a type declared in the given changed files.
+         *
+         * <p>
+         * References are searched with the word index by the simple names of the types, which may return files which
+         * don't really depend on the changed files but never misses one.
+         * </p>
+         *
+         * @param files      the changed files.
+         * @param psiManager the PSI manager.
+         * @return the source files which must be re-collected with the given changed files.
+         */
+        public Set<VirtualFile> getDependentFiles(Set<VirtualFile> files, PsiManager psiManager) {
+            Set<VirtualFile> candidates = new HashSet<>();
+            for (VirtualFile file : sourceTypes.keySet()) {
+                if (file.isValid() && !files.contains(file)) {
+                    candidates.add(file);
+                }
+            }
+            Set<VirtualFile> dependentFiles = new HashSet<>();
+            if (candidates.isEmpty()) {
+                return dependentFiles;
+            }
+            Deque<String> names = new ArrayDeque<>();
+            for (VirtualFile file : files) {
+                // The types of a deleted file are only known by its name and by the types it has contributed
+                names.add(file.getNameWithoutExtension());
+                addSimpleNames(sourceTypes.get(file), names);
+                if (file.isValid()) {
+                    addSimpleNames(getDeclaredTypes(file, psiManager), names);
+                }
+            }
+            PsiSearchHelper searchHelper = PsiSearchHelper.getInstance(psiManager.getProject());
+            Set<String> searchedNames = new HashSet<>();
+            while (!names.isEmpty() && !candidates.isEmpty()) {
+                String name = names.poll();
+                if (!searchedNames.add(name)) {
+                    continue;
+                }
+                List<VirtualFile> found = new ArrayList<>();
+                searchHelper.processAllFilesWithWord(name, GlobalSearchScope.filesScope(psiManager.getProject(), candidates),
+                        psiFile -> {
+                            found.add(psiFile.getVirtualFile());
+                            return true;
+                        }, true);
+                for (VirtualFile file : found) {
+                    if (candidates.remove(file)) {
+                        dependentFiles.add(file);
+                        // A contributing file which extends a dependent file depends on the changed files too
+                        addSimpleNames(sourceTypes.get(file), names);
+                    }
+                }
+            }
+            return dependentFiles;
+        }
+
+        /**
+         * Replaces the contribution of the given changed files and of their dependent files with the given delta.
+         *
+         * @param files          the snapshot of the changed files which have been re-collected.
+         * @param dependentFiles the files returned by {@link #getDependentFiles} which have been re-collected.
+         * @param delta          the properties and hints collected from the changed and dependent files.
+         * @param deltaTypes     the Java types declared in the re-collected files which have contributed to the delta.
+         * @param psiManager     the PSI manager used to refresh enum hints.
+         */
+        public void patch(Map<VirtualFile, Long> files, Set<VirtualFile> dependentFiles, MicroProfileProjectInfo delta,
+                          Map<VirtualFile, Set<String>> deltaTypes, PsiManager psiManager) {
+            Set<VirtualFile> patchedFiles = new HashSet<>(files.keySet());
+            patchedFiles.addAll(dependentFiles);
+            Set<String> types = new HashSet<>();
+            for (VirtualFile file : patchedFiles) {
+                Set<String> oldTypes = sourceTypes.remove(file);
+                if (oldTypes != null) {
+                    types.addAll(oldTypes);
+                }
+                if (file.isValid()) {
+                    types.addAll(getDeclaredTypes(file, psiManager));
+                }
+            }
+            sourceTypes.putAll(deltaTypes);
+
+            // Properties
+            List<ItemMetadata> properties = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            for (ItemMetadata property : info.getProperties()) {
+                if (!isOwnedBy(property.getSource(), property.getSourceType(), types)) {
+                    properties.add(property);
+                    names.add(property.getName());
+                }
+            }
+            for (ItemMetadata property : delta.getProperties()) {
+                // Properties which are not owned by a changed type (ex : mp-rest properties added once per search)
+                // are only added if they don't exist yet.
+                if (types.contains(property.getSourceType()) || !names.contains(property.getName())) {
+                    properties.add(property);
+                    names.add(property.getName());
+                }
+            }
+
+            // Hints
+            Map<String, ItemHint> hints = new LinkedHashMap<>();
+            for (ItemHint hint : info.getHints()) {
+                if (isOwnedBy(hint.getSource(), hint.getSourceType(), types)) {
+                    // Enum declared in a changed file, re-create it from the current enum constants
+                    ItemHint enumHint = createEnumHint(hint, psiManager);
+                    if (enumHint != null) {
+                        hints.put(enumHint.getName(), enumHint);
+                    }
+                    continue;
+                }
+                hints.put(hint.getName(), removeValues(hint, types));
+            }
+            for (ItemHint hint : delta.getHints()) {
+                ItemHint existingHint = hints.get(hint.getName());
+                hints.put(hint.getName(), existingHint != null ? mergeValues(existingHint, hint) : hint);
+            }
+
+            // Lists are replaced (and never updated) to avoid altering a project info which is being serialized.
+            info.setProperties(properties);
+            info.setHints(new ArrayList<>(hints.values()));
+            files.forEach(changedFiles::remove);
+        }
+
+        /**
+         * Returns a copy of the cached project info.
+         *
+         * @return a copy of the cached project info.
+         */
+        public MicroProfileProjectInfo toProjectInfo() {
+            MicroProfileProjectInfo copy = new MicroProfileProjectInfo();
+            copy.setProjectURI(info.getProjectURI());
+            copy.setClasspathKind(info.getClasspathKind());
+            copy.setProperties(new ArrayList<>(info.getProperties()));
+            copy.setHints(new ArrayList<>(info.getHints()));
+            return copy;
+        }
+    }
+
+    private static class ModuleProjectInfos {
+
+        private final Map<String, CachedProjectInfo> infos = new ConcurrentHashMap<>();
+    }
+
+    private class ProjectInfoListener implements ModuleListener, ClasspathResourceChangedManager.Listener {
+
+        @Override
+        public void librariesChanged() {
+            librariesChanged(Set.of(ModuleManager.getInstance(project).getModules()));
+        }
+
+        @Override
+        public void librariesChanged(Set<Module> modules) {
+            modificationCount.incrementAndGet();
+            for (Module module : modules) {
+                evict(module);
+            }
+        }
+
+        @Override
+        public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+            for (var pair : sources) {
+                VirtualFile file = pair.getFirst();
+                if (PsiMicroProfileProjectManager.isJavaFile(file)) {
+                    modificationCount.incrementAndGet();
+                    // The project info of a module also contains the properties collected from the sources of the
+                    // modules it depends on (dependencies scope).
+                    for (Module module : getModulesUsingSources(pair.getSecond())) {
+                        ModuleProjectInfos infos = module.getUserData(KEY);
+                        if (infos != null) {
+                            infos.infos.values().forEach(info -> info.addChangedFile(file));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void beforeModuleRemoved(@NotNull Project project, @NotNull Module module) {
+            evict(module);
+            libraryScans.remove(module);
+            cancelledLibraryScans.remove(module);
+        }
+    }
+
+    private final Project project;
+
+    private final MessageBusConnection connection;
+
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    private final Set<Module> libraryScans = ConcurrentHashMap.newKeySet();
+
+    // Modules whose background scan of the library JARs has been cancelled, their next project info is complete
+    private final Set<Module> cancelledLibraryScans = ConcurrentHashMap.newKeySet();
+
+    private MicroProfileProjectInfoCache(Project project) {
+        this.project = project;
+        ProjectInfoListener listener = new ProjectInfoListener();
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, listener);
+        connection.subscribe(ModuleListener.TOPIC, listener);
+    }
+
+    /**
+     * Returns the cached project info for the given module and parameters and null otherwise.
+     *
+     * @param module         the module.
+     * @param scopes         the search scopes.
+     * @param classpathKind  the classpath kind.
+     * @param documentFormat the document format.
+     * @return the cached project info for the given module and parameters and null otherwise.
+     */
+    public @Nullable CachedProjectInfo get(@NotNull Module module, List<MicroProfilePropertiesScope> scopes,
+                                           ClasspathKind classpathKind, DocumentFormat documentFormat) {
+        ModuleProjectInfos infos = module.getUserData(KEY);
+        if (infos == null) {
+            return null;
+        }
+        String key = getKey(scopes, classpathKind, documentFormat);
+        CachedProjectInfo cached = infos.infos.get(key);
+        if (cached != null && cached.isFullRescanRequired()) {
+            infos.infos.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Stores the project info computed by a full scan of the given module.
+     *
+     * @param module         the module.
+     * @param scopes         the search scopes.
+     * @param classpathKind  the classpath kind.
+     * @param documentFormat the document format.
+     * @param info           the computed project info.
+     * @param sourceTypes    the Java types declared by the source files which have contributed to the project info.
+     * @param modificationCount the modification count returned by {@link #getModificationCount()} before the scan started.
+     * @return the cached project info and null if a change occurred during the scan.
+     */
+    public @Nullable CachedProjectInfo put(@NotNull Module module, List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind,
+                                           DocumentFormat documentFormat, MicroProfileProjectInfo info,
+                                           Map<VirtualFile, Set<String>> sourceTypes, long modificationCount) {
+        if (modificationCount != this.modificationCount.get()) {
+            // A Java file or a library has changed during the scan, the computed project info could be obsolete.
+            return null;
+        }
+        ModuleProjectInfos infos = module.getUserData(KEY);
+        if (infos == null) {
+            infos = new ModuleProjectInfos();
+            module.putUserData(KEY, infos);
+        }
+        CachedProjectInfo cached = new CachedProjectInfo(info, sourceTypes);
+        infos.infos.put(getKey(scopes, classpathKind, documentFormat), cached);
+        return cached;
+    }
+
+    /**
+     * Returns the modification count incremented each time a Java file or a library changes.
+     *
+     * @return the modification count incremented each time a Java file or a library changes.
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Marks the start of the background scan of the library JARs of the given module.
+     *
+     * @param module the module.
+     * @return true if the scan can start and false if the libraries of the module are already being scanned.
+     */
+    public boolean startLibraryScan(@NotNull Module module) {
+        return libraryScans.add(module);
+    }
+
+    /**
+     * Marks the end of the background scan of the library JARs of the given module and notifies {@link #TOPIC}, so
+     * that the language server requests the project info again. When the scan has been cancelled, the next project
+     * info of the module is collected with a full scan of its library JARs instead of being partial again (see
+     * {@link #isLibraryScanCancelled(Module)}).
+     *
+     * @param module    the module.
+     * @param completed true if all the JARs have been scanned and false if the scan has been cancelled.
+     */
+    public void endLibraryScan(@NotNull Module module, boolean completed) {
+        if (!completed) {
+            cancelledLibraryScans.add(module);
+        }
+        libraryScans.remove(module);
+        if (!project.isDisposed() && !module.isDisposed()) {
+            project.getMessageBus().syncPublisher(TOPIC).libraryPropertiesCollected(module);
+        }
+    }
+
+    /**
+     * Returns true if the last background scan of the library JARs of the given module has been cancelled and resets
+     * this state, the caller being expected to scan the missing JARs itself.
+     *
+     * @param module the module.
+     * @return true if the last background scan of the library JARs of the given module has been cancelled.
+     */
+    public boolean isLibraryScanCancelled(@NotNull Module module) {
+        return cancelledLibraryScans.remove(module);
+    }
+
+    /**
+     * Evicts the cached project infos of the given module.
+     *
+     * @param module the module.
+     */
+    public void evict(@NotNull Module module) {
+        module.putUserData(KEY, null);
+    }
+
+    /**
+     * Returns the given module and the modules which depend directly or transitively on it.
+     *
+     * @param module the module of a changed source file.
+     * @return the given module and the modules which depend directly or transitively on it.
+     */
+    static Set<Module> getModulesUsingSources(@NotNull Module module) {
+        return ReadAction.compute(() -> {
+            Set<Module> modules = new HashSet<>();
+            if (module.isDisposed()) {
+                return modules;
+            }
+            modules.add(module);
+            modules.addAll(ModuleUtilCore.getAllDependentModules(module));
+            return modules;
+        });
+    }
+
+    /**
+     * Returns the JVM names of the Java types declared in the given file.
+     *
+     * @param file       the Java file.
+     * @param psiManager the PSI manager.
+     * @return the JVM names of the Java types declared in the given file.
+     */
+    public static Set<String> getDeclaredTypes(VirtualFile file, PsiManager psiManager) {
+        PsiFile psiFile = psiManager.findFile(file);
+        if (psiFile == null) {
+            return Collections.emptySet();
+        }
+        Set<String> types = new HashSet<>();
+        for (PsiClass type : PsiTreeUtil.findChildrenOfType(psiFile, PsiClass.class)) {
+            String jvmName = ClassUtil.getJVMClassName(type);
+            if (jvmName != null) {
+                types.add(jvmName);
+            }
+            String qualifiedName = type.getQualifiedName();
+            if (qualifiedName != null) {
+                types.add(qualifiedName);
+            }
+        }
+        return types;
+    }
+
+    private static String getKey(List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, DocumentFormat documentFormat) {
+        return classpathKind + "|" + scopes + "|" + documentFormat;
+    }
+
+    private static void addSimpleNames(@Nullable Set<String> types, Deque<String> names) {
+        if (types == null) {
+            return;
+        }
+        for (String type : types) {
+            // JVM name of a nested type (ex : org.acme.Outer$Inner)
+            for (String name : type.substring(type.lastIndexOf('.') + 1).split("\\$")) {
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+    }
+
+    private static boolean isOwnedBy(Boolean source, String sourceType, Set<String> types) {
+        return Boolean.TRUE.equals(source) && sourceType != null && types.contains(sourceType);
+    }
+
+    private static ItemHint removeValues(ItemHint hint, Set<String> types) {
+        List<ValueHint> values = hint.getValues();
+        if (values == null || values.stream().noneMatch(value -> value.getSourceType() != null && types.contains(value.getSourceType()))) {
+            return hint;
+        }
+        ItemHint copy = copyHint(hint);
+        copy.setValues(new ArrayList<>());
+        for (ValueHint value : values) {
+            if (value.getSourceType() == null || !types.contains(value.getSourceType())) {
+                copy.getValues().add(value);
+            }
+        }
+        return copy;
+    }
+
+    private static ItemHint mergeValues(ItemHint existingHint, ItemHint hint) {
+        ItemHint copy = copyHint(existingHint);
+        copy.setValues(existingHint.getValues() != null ? new ArrayList<>(existingHint.getValues()) : new ArrayList<>());
+        if (hint.getValues() != null) {
+            for (ValueHint value : hint.getValues()) {
+                if (copy.getValues().stream().noneMatch(v -> Objects.equals(v.getValue(), value.getValue()))) {
+                    copy.getValues().add(value);
+                }
+            }
+        }
+        if (Boolean.TRUE.equals(hint.getSource())) {
+            copy.setSource(Boolean.TRUE);
+        }
+        return copy;
+    }
+
+    private static ItemHint copyHint(ItemHint hint) {
+        ItemHint copy = new ItemHint();
+        copy.setName(hint.getName());
+        copy.setDescription(hint.getDescription());
+        copy.setSourceType(hint.getSourceType());
+        copy.setSource(hint.getSource());
+        copy.setProviders(hint.getProviders());
+        copy.setValues(hint.getValues());
+        return copy;
+    }
+
+    private static @Nullable ItemHint createEnumHint(ItemHint hint, PsiManager psiManager) {
+        PsiClass type = PsiTypeUtils.findType(psiManager, hint.getSourceType());
+        if (type == null || !type.isEnum()) {
+            return null;
+        }
+        ItemHint copy = copyHint(hint);
+        copy.setValues(new ArrayList<>());
+        for (var child : type.getChildren()) {
+            if (child instanceof PsiEnumConstant) {
+                ValueHint value = new ValueHint();
+                value.setValue(((PsiEnumConstant) child).getName());
+                copy.getValues().add(value);
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public void dispose() {
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            evict(module);
+        }
+        connection.disconnect();
+    }
+}
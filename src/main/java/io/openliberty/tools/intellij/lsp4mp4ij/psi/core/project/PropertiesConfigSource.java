@@ -10,17 +10,22 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.util.text.CharSequenceReader;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -57,9 +62,22 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 
 	@Override
 	protected Properties loadConfig(InputStream input) throws IOException {
-		propertyValueExpander = null;
 		Properties properties = new Properties();
 		properties.load(input);
+		return adjustProperties(properties);
+	}
+
+	@Override
+	protected Properties loadConfig(CharSequence content) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = new CharSequenceReader(content)) {
+			properties.load(reader);
+		}
+		return adjustProperties(properties);
+	}
+
+	private Properties adjustProperties(Properties properties) {
+		propertyValueExpander = null;
 		String profile = getProfile();
 		if (profile != null) {
 			// Prefix all properties with profile
@@ -79,7 +97,8 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 	@Override
 	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations() {
 		Properties config = super.getConfig();
-		Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertiesMap = new HashMap<>();
+		Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertiesMap = new ConcurrentHashMap<>();
+		String sourceConfigFileURI = getSourceConfigFileURI();
 		config.forEach((key, val) -> {
 			if (key != null) {
 				String propertyKeyWithProfile = key.toString();
@@ -93,12 +112,60 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 					propertiesMap.put(propertyKey, info);
 				}
 				info.add(new MicroProfileConfigPropertyInformation(propertyKeyWithProfile, propertyValue,
-						getSourceConfigFileURI(), getConfigFileName()));
+						sourceConfigFileURI, getConfigFileName()));
 			}
 		});
 		return propertiesMap;
 	}
 
+	@Override
+	protected boolean updatePropertyInformations(Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations,
+			Properties oldConfig, Properties newConfig) {
+		// Collect the added, removed and updated properties, grouped by property key without profile
+		Map<String, Set<String>> changedKeys = new HashMap<>();
+		oldConfig.forEach((key, val) -> {
+			if (!Objects.equals(val, newConfig.get(key))) {
+				addChangedKey(key.toString(), changedKeys);
+			}
+		});
+		newConfig.forEach((key, val) -> {
+			if (!oldConfig.containsKey(key)) {
+				addChangedKey(key.toString(), changedKeys);
+			}
+		});
+		String sourceConfigFileURI = getSourceConfigFileURI();
+		changedKeys.forEach((propertyKey, keysWithProfile) -> {
+			// The list is replaced and never modified, since it can be read by another thread
+			List<MicroProfileConfigPropertyInformation> info = new ArrayList<>();
+			List<MicroProfileConfigPropertyInformation> existingInfo = propertyInformations.get(propertyKey);
+			if (existingInfo != null) {
+				for (MicroProfileConfigPropertyInformation propertyInformation : existingInfo) {
+					if (!keysWithProfile.contains(propertyInformation.getPropertyNameWithProfile())) {
+						info.add(propertyInformation);
+					}
+				}
+			}
+			for (String propertyKeyWithProfile : keysWithProfile) {
+				Object val = newConfig.get(propertyKeyWithProfile);
+				if (val != null) {
+					info.add(new MicroProfileConfigPropertyInformation(propertyKeyWithProfile, val.toString(),
+							sourceConfigFileURI, getConfigFileName()));
+				}
+			}
+			if (info.isEmpty()) {
+				propertyInformations.remove(propertyKey);
+			} else {
+				propertyInformations.put(propertyKey, info);
+			}
+		});
+		return true;
+	}
+
+	private static void addChangedKey(String propertyKeyWithProfile, Map<String, Set<String>> changedKeys) {
+		String propertyKey = MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(propertyKeyWithProfile);
+		changedKeys.computeIfAbsent(propertyKey, k -> new HashSet<>()).add(propertyKeyWithProfile);
+	}
+
 	@Override
 	public Set<String> getAllKeys() {
 		Properties properties = getConfig();
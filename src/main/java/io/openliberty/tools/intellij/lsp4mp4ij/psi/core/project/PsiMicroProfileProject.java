@@ -12,9 +12,18 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.compiler.CompilerPaths;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcePropertiesProvider;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
@@ -22,6 +31,10 @@ import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -34,13 +47,61 @@ public class PsiMicroProfileProject {
 
     private final Module javaProject;
 
-    private List<IConfigSource> configSources;
+    private volatile List<IConfigSource> configSources;
 
-    private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-    private transient PropertyValueExpander propertyValueExpander = null;
+    private transient volatile IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
+    private transient volatile PropertyValueExpander propertyValueExpander = null;
+
+    // Incremented when the config sources change: a value computed from a previous generation is not cached, see
+    // cacheIfUnchanged
+    private final AtomicLong generation = new AtomicLong();
+
+    // Java types found on the classpath of the project, evicted when the project roots (libraries, module
+    // dependencies) or the content of the libraries change
+    private final CachedValue<Set<String>> typesOnClasspath;
+
+    // Java types not found on the classpath of the project, also evicted when the structure of a Java file changes
+    // (ex : the type is added to the sources)
+    private final CachedValue<Set<String>> missingTypes;
+
+    private final SimpleModificationTracker librariesModificationTracker = new SimpleModificationTracker();
+
+    // property key without profile -> property informations of all config sources, sorted by property name with profile
+    private volatile Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformationsIndex;
+
+    // property key without profile -> property informations with expanded values, evicted when a config source changes
+    private final Map<String, List<MicroProfileConfigPropertyInformation>> resolvedPropertyInformations = new ConcurrentHashMap<>();
+
+    // property key with profile -> expanded value with the properties it depends on
+    private final Map<String, ResolvedValue> resolvedValues = new ConcurrentHashMap<>();
+
+    private static final String CONFIG_ORDINAL = "config_ordinal";
+
+    private static final Pattern PROPERTY_EXPRESSION_PATTERN = Pattern.compile("\\$\\{([^${}]*)\\}");
+
+    /**
+     * Expanded value of a property.
+     *
+     * @param value        the expanded value and null if the property is not defined.
+     * @param dependencies the names without profile of the properties used to expand the value and null if they
+     *                     cannot be computed (ex : nested expressions).
+     */
+    private record ResolvedValue(String value, Set<String> dependencies) {
+    }
 
     public PsiMicroProfileProject(Module javaProject) {
         this.javaProject = javaProject;
+        Project project = javaProject.getProject();
+        CachedValuesManager cachedValuesManager = CachedValuesManager.getManager(project);
+        this.typesOnClasspath = cachedValuesManager.createCachedValue(
+                () -> CachedValueProvider.Result.create(ConcurrentHashMap.newKeySet(),
+                        ProjectRootModificationTracker.getInstance(project), librariesModificationTracker),
+                false);
+        this.missingTypes = cachedValuesManager.createCachedValue(
+                () -> CachedValueProvider.Result.create(ConcurrentHashMap.newKeySet(),
+                        ProjectRootModificationTracker.getInstance(project), librariesModificationTracker,
+                        ClasspathResourceChangedManager.getInstance(project).getJavaStructureModificationTracker()),
+                false);
     }
 
     /**
@@ -59,26 +120,100 @@ public class PsiMicroProfileProject {
      * defined in this project
      */
     public String getProperty(String propertyKey, String defaultValue) {
+        ResolvedValue resolved = resolvedValues.get(propertyKey);
+        if (resolved == null) {
+            long generation = this.generation.get();
+            ResolvedValue newValue = resolveProperty(propertyKey, generation);
+            cacheIfUnchanged(generation, () -> resolvedValues.putIfAbsent(propertyKey, newValue));
+            resolved = newValue;
+        }
+        String value = resolved.value();
+        return value != null ? value : defaultValue;
+    }
 
-        if (aggregatedPropertiesProvider == null) {
-            aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
+    private ResolvedValue resolveProperty(String propertyKey, long generation) {
+        IConfigSourcePropertiesProvider provider = aggregatedPropertiesProvider;
+        if (provider == null) {
+            IConfigSourcePropertiesProvider newProvider = getAggregatedPropertiesProvider();
+            cacheIfUnchanged(generation, () -> aggregatedPropertiesProvider = newProvider);
+            provider = newProvider;
         }
 
-        String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
+        String unresolved = provider.getValue(propertyKey);
         if (unresolved == null) {
-            return defaultValue;
+            return new ResolvedValue(null, Set.of(getPropertyNameWithoutProfile(propertyKey)));
         } else if (unresolved.contains("${")) {
-            if (propertyValueExpander == null) {
-                propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-            }
-            String expandedValue = propertyValueExpander.getValue(propertyKey);
-            if (expandedValue == null) {
-                return defaultValue;
+            PropertyValueExpander expander = propertyValueExpander;
+            if (expander == null) {
+                PropertyValueExpander newExpander = new PropertyValueExpander(provider);
+                cacheIfUnchanged(generation, () -> propertyValueExpander = newExpander);
+                expander = newExpander;
             }
-            return expandedValue;
+            return new ResolvedValue(expander.getValue(propertyKey), collectDependencies(propertyKey, provider));
         } else {
-            return unresolved;
+            return new ResolvedValue(unresolved, Set.of(getPropertyNameWithoutProfile(propertyKey)));
+        }
+    }
+
+    /**
+     * Returns the names without profile of the properties referenced directly or transitively by the value of the
+     * given property and null if a nested expression (ex : ${a${b}}) prevents to compute them.
+     *
+     * <p>
+     * The profile is ignored to be conservative: a change of %dev.a or of a invalidates the values which reference
+     * ${a}.
+     * </p>
+     */
+    private static Set<String> collectDependencies(String propertyKey, IConfigSourcePropertiesProvider provider) {
+        Set<String> dependencies = new HashSet<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.push(propertyKey);
+        while (!toVisit.isEmpty()) {
+            String key = toVisit.pop();
+            if (!visited.add(key)) {
+                continue;
+            }
+            dependencies.add(getPropertyNameWithoutProfile(key));
+            String value = provider.getValue(key);
+            if (value == null) {
+                continue;
+            }
+            int expressions = 0;
+            Matcher matcher = PROPERTY_EXPRESSION_PATTERN.matcher(value);
+            while (matcher.find()) {
+                expressions++;
+                String expression = matcher.group(1);
+                int defaultValueIndex = expression.indexOf(':');
+                String referencedKey = defaultValueIndex != -1 ? expression.substring(0, defaultValueIndex) : expression;
+                toVisit.push(referencedKey);
+                if (referencedKey.startsWith("%")) {
+                    continue;
+                }
+                // The expander can resolve the reference with the profile of the expanded property
+                String profile = getProfile(propertyKey);
+                if (profile != null) {
+                    toVisit.push("%" + profile + "." + referencedKey);
+                }
+            }
+            if (expressions != StringUtil.getOccurrenceCount(value, "${")) {
+                // Nested expression
+                return null;
+            }
+        }
+        return dependencies;
+    }
+
+    private static String getProfile(String propertyKey) {
+        if (!propertyKey.startsWith("%")) {
+            return null;
         }
+        int index = propertyKey.indexOf('.');
+        return index != -1 ? propertyKey.substring(1, index) : null;
+    }
+
+    private static String getPropertyNameWithoutProfile(String propertyKey) {
+        return MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(propertyKey);
     }
 
     /**
@@ -152,6 +287,107 @@ public class PsiMicroProfileProject {
      * defined in this project.
      */
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+        // Read before the index, an eviction of the index increments it
+        long generation = this.generation.get();
+        List<MicroProfileConfigPropertyInformation> propertyInformations = getPropertyInformationsIndex().get(propertyKey);
+        if (propertyInformations == null) {
+            return Collections.emptyList();
+        }
+        List<MicroProfileConfigPropertyInformation> resolvedInformations = resolvedPropertyInformations.get(propertyKey);
+        if (resolvedInformations == null) {
+            List<MicroProfileConfigPropertyInformation> newInformations = propertyInformations.stream() //
+                    .map(info -> {
+                        String resolved = this.getProperty(info.getPropertyNameWithProfile());
+                        return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
+                                info.getSourceConfigFileURI(), info.getConfigFileName());
+                    }).collect(Collectors.toUnmodifiableList());
+            cacheIfUnchanged(generation, () -> resolvedPropertyInformations.putIfAbsent(propertyKey, newInformations));
+            resolvedInformations = newInformations;
+        }
+        return resolvedInformations;
+    }
+
+    /**
+     * Store a value computed from the config sources of the given generation, only if the config sources have not
+     * changed since, so that a value computed concurrently with {@link #evictConfigSourcesCache(VirtualFile)} doesn't
+     * survive the eviction.
+     */
+    private void cacheIfUnchanged(long generation, Runnable store) {
+        synchronized (resolvedValues) {
+            if (generation == this.generation.get()) {
+                store.run();
+            }
+        }
+    }
+
+    /**
+     * Invalidate the values computed from the current config sources: the values being computed are not cached and
+     * the expanded values are evicted by the given eviction.
+     */
+    private void invalidate(Runnable eviction) {
+        synchronized (resolvedValues) {
+            generation.incrementAndGet();
+            propertyValueExpander = null;
+            aggregatedPropertiesProvider = null;
+            eviction.run();
+        }
+    }
+
+    private Map<String, List<MicroProfileConfigPropertyInformation>> getPropertyInformationsIndex() {
+        Map<String, List<MicroProfileConfigPropertyInformation>> index = propertyInformationsIndex;
+        if (index == null) {
+            index = loadPropertyInformationsIndex();
+        }
+        return index;
+    }
+
+    /**
+     * Merge the property informations of all config sources in one index, so that the lookup of a property doesn't
+     * walk the config sources.
+     *
+     * @return the property informations index.
+     */
+    private synchronized Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformationsIndex() {
+        if (propertyInformationsIndex != null) {
+            return propertyInformationsIndex;
+        }
+        Set<String> propertyKeys = new HashSet<>();
+        for (IConfigSource configSource : getConfigSources()) {
+            propertyKeys.addAll(getPropertyKeys(configSource));
+        }
+        Map<String, List<MicroProfileConfigPropertyInformation>> index = new ConcurrentHashMap<>();
+        for (String propertyKey : propertyKeys) {
+            List<MicroProfileConfigPropertyInformation> propertyInformations = mergePropertyInformations(propertyKey);
+            if (!propertyInformations.isEmpty()) {
+                index.put(propertyKey, propertyInformations);
+            }
+        }
+        propertyInformationsIndex = index;
+        return index;
+    }
+
+    /**
+     * Update the entries of the property informations index for the given property keys.
+     *
+     * @param propertyKeys the property keys without profile defined by the updated config source.
+     */
+    private synchronized void updatePropertyInformationsIndex(Set<String> propertyKeys) {
+        Map<String, List<MicroProfileConfigPropertyInformation>> index = propertyInformationsIndex;
+        if (index == null) {
+            // The index will be loaded on the next lookup
+            return;
+        }
+        for (String propertyKey : propertyKeys) {
+            List<MicroProfileConfigPropertyInformation> propertyInformations = mergePropertyInformations(propertyKey);
+            if (propertyInformations.isEmpty()) {
+                index.remove(propertyKey);
+            } else {
+                index.put(propertyKey, propertyInformations);
+            }
+        }
+    }
+
+    private List<MicroProfileConfigPropertyInformation> mergePropertyInformations(String propertyKey) {
         // Use a map to override property values
         // eg. if application.yaml defines a value for a property it should override the
         // value defined in application.properties
@@ -173,18 +409,61 @@ public class PsiMicroProfileProject {
                 .sorted((a, b) -> {
                     return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
                 }) //
-                .map(info -> {
-                    String resolved = this.getProperty(info.getPropertyNameWithProfile());
-                    return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-                            info.getSourceConfigFileURI(), info.getConfigFileName());
-                }).collect(Collectors.toList());
+                .collect(Collectors.toList());
+    }
+
+    private static Set<String> getPropertyKeys(IConfigSource configSource) {
+        return configSource.getAllKeys().stream() //
+                .map(MicroProfileConfigPropertyInformation::getPropertyNameWithoutProfile) //
+                .collect(Collectors.toSet());
+    }
+
+    private static Map<String, String> getPropertyValues(IConfigSource configSource) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : configSource.getAllKeys()) {
+            values.put(key, configSource.getProperty(key));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the names without profile of the properties added, removed or updated between the given values.
+     */
+    private static Set<String> getChangedPropertyKeys(Map<String, String> oldValues, Map<String, String> newValues) {
+        Set<String> changedPropertyKeys = new HashSet<>();
+        Set<String> keys = new HashSet<>(oldValues.keySet());
+        keys.addAll(newValues.keySet());
+        for (String key : keys) {
+            if (!Objects.equals(oldValues.get(key), newValues.get(key))) {
+                changedPropertyKeys.add(getPropertyNameWithoutProfile(key));
+            }
+        }
+        return changedPropertyKeys;
+    }
+
+    /**
+     * Evict the expanded values which depend on the given properties.
+     *
+     * @param changedPropertyKeys the names without profile of the changed properties.
+     */
+    private void evictResolvedValues(Set<String> changedPropertyKeys) {
+        resolvedValues.entrySet().removeIf(entry -> {
+            Set<String> dependencies = entry.getValue().dependencies();
+            if (dependencies == null || dependencies.stream().anyMatch(changedPropertyKeys::contains)) {
+                resolvedPropertyInformations.remove(getPropertyNameWithoutProfile(entry.getKey()));
+                return true;
+            }
+            return false;
+        });
+        changedPropertyKeys.forEach(resolvedPropertyInformations::remove);
     }
 
     public List<IConfigSource> getConfigSources() {
-        if (configSources == null) {
-            configSources = loadConfigSources(javaProject);
+        List<IConfigSource> sources = configSources;
+        if (sources == null) {
+            sources = loadConfigSources(javaProject);
         }
-        return configSources;
+        return sources;
     }
 
     /**
@@ -192,8 +471,13 @@ public class PsiMicroProfileProject {
      * of properties, yaml file is saved.
      */
     public void evictConfigSourcesCache(VirtualFile file) {
+        // The diagnostics computed with the previous config sources must be computed again
+        ConfigSourceFileIndex.getInstance(javaProject.getProject()).configSourcesChanged(javaProject);
         final IConfigSource existingConfigSource = findConfigSource(file);
         if (existingConfigSource != null) {
+            Map<String, String> oldValues = getPropertyValues(existingConfigSource);
+            // The values computed while the config source is reloaded are not cached
+            invalidate(() -> {});
             // The config source file exists, update / delete it from the cache
             boolean updated = ReadAction.compute(() -> {
                 PsiFile psiFile = LSPIJUtils.getPsiFile(file, javaProject.getProject());
@@ -206,16 +490,61 @@ public class PsiMicroProfileProject {
                 // The config source file has been deleted, remove it
                 return false;
             });
-            if (!updated) {
+            Map<String, String> newValues;
+            if (updated) {
+                newValues = getPropertyValues(existingConfigSource);
+            } else {
                 // Remove from config sources cache, the config source file which has been deleted
-                configSources.remove(existingConfigSource);
+                removeConfigSource(existingConfigSource);
+                newValues = Collections.emptyMap();
+            }
+            Set<String> changedPropertyKeys = getChangedPropertyKeys(oldValues, newValues);
+            if (changedPropertyKeys.contains(CONFIG_ORDINAL)) {
+                // The order of the config sources can change, all the merged and expanded values are evicted
+                sortConfigSources();
+                evictPropertyValues();
+                return;
             }
+            // Only the changed properties are merged again in the index, and only the expanded values which depend
+            // on them are evicted
+            updatePropertyInformationsIndex(changedPropertyKeys);
+            invalidate(() -> evictResolvedValues(changedPropertyKeys));
         } else {
             // The config source file doesn't exist, evict the full cache
-            configSources = null;
+            evictAll();
+        }
+    }
+
+    private synchronized void removeConfigSource(IConfigSource configSource) {
+        List<IConfigSource> sources = configSources;
+        if (sources != null) {
+            // The list is copied, it can be iterated by other threads
+            sources = new ArrayList<>(sources);
+            sources.remove(configSource);
+            configSources = sources;
+        }
+    }
+
+    private synchronized void sortConfigSources() {
+        List<IConfigSource> sources = configSources;
+        if (sources != null) {
+            sources = new ArrayList<>(sources);
+            sources.sort((a, b) -> b.getOrdinal() - a.getOrdinal());
+            configSources = sources;
         }
-        propertyValueExpander = null;
-        aggregatedPropertiesProvider = null;
+    }
+
+    private synchronized void evictAll() {
+        configSources = null;
+        evictPropertyValues();
+    }
+
+    private synchronized void evictPropertyValues() {
+        propertyInformationsIndex = null;
+        invalidate(() -> {
+            resolvedValues.clear();
+            resolvedPropertyInformations.clear();
+        });
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
@@ -236,10 +565,10 @@ public class PsiMicroProfileProject {
      * @return the loaded config sources.
      */
     private synchronized List<IConfigSource> loadConfigSources(Module javaProject) {
-        if (configSources != null) {
+        if (this.configSources != null) {
             // Case when there are several Threads which load config sources, the second
             // Thread should not reload the config sources again.
-            return configSources;
+            return this.configSources;
         }
         List<IConfigSource> configSources = new ArrayList<>();
         VirtualFile outputFile = CompilerPaths.getModuleOutputDirectory(javaProject, false);
@@ -247,6 +576,7 @@ public class PsiMicroProfileProject {
             configSources.addAll(provider.getConfigSources(javaProject, outputFile));
         }
         Collections.sort(configSources, (a, b) -> b.getOrdinal() - a.getOrdinal());
+        this.configSources = configSources;
         return configSources;
     }
 
@@ -260,15 +590,55 @@ public class PsiMicroProfileProject {
      * false otherwise
      */
     public boolean hasProperty(String property) {
-        List<IConfigSource> configSources = getConfigSources();
-        for (IConfigSource configSource : configSources) {
-            if (configSource.getPropertyInformations(property) != null) {
-                return true;
-            }
+        return getPropertyInformationsIndex().containsKey(property);
+    }
+
+    /**
+     * Loads the config sources of this project and the index of their property informations, to pay the cost of
+     * parsing the config files before the first lookup.
+     */
+    public void preload() {
+        getPropertyInformationsIndex();
+    }
+
+    /**
+     * Returns true if the given Java type is on the classpath of this project and false otherwise.
+     *
+     * <p>
+     * The result is cached until the project roots or the content of the libraries change (see
+     * {@link #evictTypesCache()}). A type which is not found is also searched again when the structure of a Java file
+     * changes, while a type found in the sources stays cached when it is removed: the providers which require it find
+     * nothing to collect.
+     * </p>
+     *
+     * @param typeName the fully qualified name of the Java type.
+     * @return true if the given Java type is on the classpath of this project and false otherwise.
+     */
+    public boolean hasType(String typeName) {
+        Set<String> types = typesOnClasspath.getValue();
+        if (types.contains(typeName)) {
+            return true;
+        }
+        Set<String> missing = missingTypes.getValue();
+        if (missing.contains(typeName)) {
+            return false;
         }
+        if (PsiTypeUtils.findType(javaProject, typeName) != null) {
+            types.add(typeName);
+            return true;
+        }
+        missing.add(typeName);
         return false;
     }
 
+    /**
+     * Evict the cache of the Java types on the classpath as soon as a library is
+     * added, removed or updated.
+     */
+    public void evictTypesCache() {
+        librariesModificationTracker.incModificationCount();
+    }
+
     private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
         List<IConfigSource> configSources = getConfigSources();
         if (configSources.size() == 0) {
@@ -14,25 +14,37 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.messages.MessageBusConnection;
 import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
 import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * {@link PsiMicroProfileProject} manager.
  *
+ * <p>
+ * The MicroProfile projects are stored in a cache bounded by the
+ * <code>liberty.tools.microprofile.projects.cacheSize</code> registry key: when the cache is full, the least recently
+ * used project (with its parsed config sources and property informations) is evicted and rebuilt on demand the next
+ * time its module is accessed. A config file which is modified in an editor and not saved yet is rebuilt from its
+ * last committed content.
+ * </p>
+ *
  * @author Angelo ZERR
  * @see <a href="https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/core/project/JDTMicroProfileProjectManager.java">https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/core/project/JDTMicroProfileProjectManager.java</a>
  */
 public final class PsiMicroProfileProjectManager implements Disposable {
 
-	private static final Key<PsiMicroProfileProject> KEY = new Key<>(PsiMicroProfileProject.class.getName());
+	public static final String CACHE_SIZE_REGISTRY_KEY = "liberty.tools.microprofile.projects.cacheSize";
+
+	private static final int DEFAULT_CACHE_SIZE = 100;
 
 	private static final String JAVA_FILE_EXTENSION = "java";
 
@@ -46,11 +58,53 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 
 	private final MicroProfileProjectListener microprofileProjectListener;
 
+	// Access ordered map, the first entry is the least recently used project
+	private final Map<Module, PsiMicroProfileProject> projects;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * Statistics of the MicroProfile project cache.
+	 *
+	 * @param size      the number of cached projects.
+	 * @param maxSize   the maximum number of cached projects.
+	 * @param hits      the number of accesses which found a cached project, internal lookups excluded.
+	 * @param misses    the number of accesses which created a project, internal lookups excluded.
+	 * @param evictions the number of projects evicted because the cache was full.
+	 */
+	public record CacheStatistics(int size, int maxSize, long hits, long misses, long evictions) {
+
+		/**
+		 * Returns the ratio of accesses which found a cached project, between 0 and 1.
+		 *
+		 * @return the ratio of accesses which found a cached project, between 0 and 1.
+		 */
+		public double hitRate() {
+			long requests = hits + misses;
+			return requests == 0 ? 0 : (double) hits / requests;
+		}
+	}
+
 	private class MicroProfileProjectListener implements ModuleListener, ClasspathResourceChangedManager.Listener {
 
 		@Override
 		public void librariesChanged() {
-			// Do nothing
+			librariesChanged(Set.of(ModuleManager.getInstance(project).getModules()));
+		}
+
+		@Override
+		public void librariesChanged(Set<Module> modules) {
+			// Libraries have changed, evict the cache of the Java types on the classpath
+			for (Module module : modules) {
+				PsiMicroProfileProject mpProject = getMicroProfileProject(module, false, false);
+				if (mpProject != null) {
+					mpProject.evictTypesCache();
+				}
+			}
 		}
 
 		@Override
@@ -60,7 +114,7 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 				if (isConfigSource(file)) {
 					// A microprofile config file properties file source has been updated, evict the cache of the properties
 					Module javaProject = pair.getSecond();
-					PsiMicroProfileProject mpProject = getMicroProfileProject(javaProject);
+					PsiMicroProfileProject mpProject = getMicroProfileProject(javaProject, true, false);
 					if (mpProject != null) {
 						mpProject.evictConfigSourcesCache(file);
 					}
@@ -84,25 +138,70 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 	private PsiMicroProfileProjectManager(Project project) {
 		this.project = project;
 		microprofileProjectListener = new MicroProfileProjectListener();
+		projects = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Module, PsiMicroProfileProject> eldest) {
+				if (size() > getMaxCacheSize()) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
 		connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
 		connection.subscribe(ClasspathResourceChangedManager.TOPIC, microprofileProjectListener);
 		connection.subscribe(ModuleListener.TOPIC, microprofileProjectListener);
 	}
 
 	public PsiMicroProfileProject getMicroProfileProject(Module project) {
-		return getMicroProfileProject(project, true);
+		return getMicroProfileProject(project, true, true);
 	}
 
-	private PsiMicroProfileProject getMicroProfileProject(Module javaProject, boolean create) {
-		PsiMicroProfileProject mpProject = javaProject.getUserData(KEY);
-		if (mpProject == null) {
+	/**
+	 * Returns the MicroProfile project of the given module for an internal lookup (ex : the check of the types
+	 * required by the properties providers), which is not counted in the cache statistics.
+	 *
+	 * @param project the module.
+	 * @return the MicroProfile project of the given module.
+	 */
+	public PsiMicroProfileProject getInternalMicroProfileProject(Module project) {
+		return getMicroProfileProject(project, true, false);
+	}
+
+	private PsiMicroProfileProject getMicroProfileProject(Module javaProject, boolean create, boolean countLookup) {
+		synchronized (projects) {
+			PsiMicroProfileProject mpProject = projects.get(javaProject);
 			if (!create) {
-				return null;
+				return mpProject;
+			}
+			if (mpProject != null) {
+				if (countLookup) {
+					hits++;
+				}
+				return mpProject;
+			}
+			if (countLookup) {
+				misses++;
 			}
 			mpProject = new PsiMicroProfileProject(javaProject);
-			javaProject.putUserData(KEY, mpProject);
+			projects.put(javaProject, mpProject);
+			return mpProject;
 		}
-		return mpProject;
+	}
+
+	/**
+	 * Returns the statistics of the MicroProfile project cache.
+	 *
+	 * @return the statistics of the MicroProfile project cache.
+	 */
+	public CacheStatistics getCacheStatistics() {
+		synchronized (projects) {
+			return new CacheStatistics(projects.size(), getMaxCacheSize(), hits, misses, evictions);
+		}
+	}
+
+	private static int getMaxCacheSize() {
+		return Math.max(1, Registry.intValue(CACHE_SIZE_REGISTRY_KEY, DEFAULT_CACHE_SIZE));
 	}
 
 	/**
@@ -136,14 +235,15 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 
 	@Override
 	public void dispose() {
-		Module[] modules = ModuleManager.getInstance(project).getModules();
-		for (Module module : modules) {
-			removeMicroProfileProject(module);
+		synchronized (projects) {
+			projects.clear();
 		}
 		connection.disconnect();
 	}
 
-	private static void removeMicroProfileProject(Module module) {
-		module.putUserData(KEY, null);
+	private void removeMicroProfileProject(Module module) {
+		synchronized (projects) {
+			projects.remove(module);
+		}
 	}
 }
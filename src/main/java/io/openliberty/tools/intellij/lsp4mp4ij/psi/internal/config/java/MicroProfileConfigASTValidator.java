@@ -30,7 +30,9 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4mp.commons.utils.AntPathMatcher;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
@@ -69,12 +71,18 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
     private List<String> patterns;
     // prefix from @ConfigProperties(prefix="")
     private String currentPrefix;
+    // MicroProfile project resolved on the first property to validate
+    private PsiMicroProfileProject mpProject;
+    // property name -> true if the property must be reported as unassigned
+    private Map<String, Boolean> unassignedProperties;
 
     @Override
     public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
         super.initialize(context, diagnostics);
         this.currentPrefix = null;
         this.patterns = getPatternsFromContext(context);
+        this.mpProject = null;
+        this.unassignedProperties = new HashMap<>();
     }
 
     @Override
@@ -170,7 +178,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
                 String message = MessageFormat.format(EMPTY_KEY_ERROR_MESSAGE, CONFIG_PROPERTY_ANNOTATION_NAME);
                 Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
                         MicroProfileConfigErrorCode.EMPTY_KEY, DiagnosticSeverity.Error);
-            } else if (!hasDefaultValue && !doesPropertyHaveValue(name, getContext()) && !isPropertyIgnored(name)) {
+            } else if (!hasDefaultValue && isPropertyUnassigned(name)) {
                 String message = MessageFormat.format(NO_VALUE_ERROR_MESSAGE, name);
                 Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
                         MicroProfileConfigErrorCode.NO_VALUE_ASSIGNED_TO_PROPERTY, DiagnosticSeverity.Warning);
@@ -179,6 +187,12 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
         }
     }
 
+    private boolean isPropertyUnassigned(String propertyName) {
+        // A property injected in several fields of the file is looked up once
+        return unassignedProperties.computeIfAbsent(propertyName,
+                name -> !doesPropertyHaveValue(name) && !isPropertyIgnored(name));
+    }
+
     private boolean isPropertyIgnored(String propertyName) {
         for (String pattern : patterns) {
             if (pathMatcher.match(pattern, propertyName)) {
@@ -274,10 +288,12 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
         }
     }
 
-    private static boolean doesPropertyHaveValue(String property, JavaDiagnosticsContext context) {
-        Module javaProject = context.getJavaProject();
-        PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(javaProject.getProject())
-                .getMicroProfileProject(javaProject);
+    private boolean doesPropertyHaveValue(String property) {
+        if (mpProject == null) {
+            Module javaProject = getContext().getJavaProject();
+            mpProject = PsiMicroProfileProjectManager.getInstance(javaProject.getProject())
+                    .getMicroProfileProject(javaProject);
+        }
         return mpProject.hasProperty(property);
     }
 
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManagerCore;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the MicroProfile properties collected from a library JAR.
+ *
+ * <p>
+ * The content of a JAR doesn't change, so the properties collected by the properties providers from a given JAR are
+ * stored in memory and on disk (in the IDE system directory) with a key computed from the JAR path, size and
+ * modification stamp and from the properties providers applied to the JAR, which depend on the classpath of the
+ * module. It avoids scanning the same JARs on each project info request, after each library change and after an IDE
+ * restart.
+ * </p>
+ *
+ * <p>
+ * Only the most recently used entries are kept in memory, and the cache files which have not been used for
+ * {@link #MAX_FILE_AGE} are deleted once per IDE session.
+ * </p>
+ *
+ * <p>
+ * The project info is computed in a read action, so {@link #get} only looks up the entries in memory. The cache files
+ * are read by {@link #load} outside of read actions, and written in background by {@link #put}.
+ * </p>
+ */
+public final class LibraryPropertiesCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryPropertiesCache.class);
+
+    /**
+     * Version of the cache format, must be incremented when the collected properties of a JAR can change for a same
+     * plugin version.
+     */
+    private static final String CACHE_VERSION = "2";
+
+    private static final int MAX_MEMORY_ENTRIES = 200;
+
+    private static final int MAX_FILES = 2000;
+
+    private static final Duration MAX_FILE_AGE = Duration.ofDays(30);
+
+    private static final String PLUGIN_ID = "open-liberty.intellij";
+
+    private static final String CACHE_DIRECTORY = "liberty-tools/mp-library-properties";
+
+    public static LibraryPropertiesCache getInstance() {
+        return ApplicationManager.getApplication().getService(LibraryPropertiesCache.class);
+    }
+
+    // Access-ordered to evict the least recently used entries
+    private final Map<String, ConfigurationMetadata> cache;
+
+    private final AtomicBoolean pruned = new AtomicBoolean();
+
+    // The cache files are written and pruned one at a time, outside of the read action of the scan
+    private final ExecutorService ioExecutor = AppExecutorUtil.createBoundedApplicationPoolExecutor("MicroProfile library properties cache", 1);
+
+    private final Path cacheDirectory;
+
+    private final Gson gson;
+
+    private final String pluginVersion;
+
+    public LibraryPropertiesCache() {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ConfigurationMetadata> eldest) {
+                return size() > MAX_MEMORY_ENTRIES;
+            }
+        };
+        this.cacheDirectory = Path.of(PathManager.getSystemPath(), CACHE_DIRECTORY);
+        // EnumTypeAdapter is used to write and read enums like LSP4MP does.
+        this.gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+        IdeaPluginDescriptor plugin = PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID));
+        this.pluginVersion = plugin != null ? plugin.getVersion() : "";
+    }
+
+    /**
+     * Returns the local JAR file of the given library root and null if the root is not a JAR (ex : a classes directory).
+     *
+     * @param root the library root.
+     * @return the local JAR file of the given library root and null if the root is not a JAR.
+     */
+    public static @Nullable VirtualFile getJarFile(@NotNull VirtualFile root) {
+        return JarFileSystem.getInstance().getVirtualFileForJar(root);
+    }
+
+    /**
+     * Returns the properties of the given JAR loaded in memory and null if the JAR has not been scanned yet, has changed
+     * or has not been loaded from its cache file by {@link #load}. This method doesn't read any file, so it can be
+     * called in a read action.
+     *
+     * @param jarFile        the local JAR file.
+     * @param documentFormat the document format used for the descriptions.
+     * @param providers      the key of the properties providers applied to the JAR.
+     * @return the properties of the given JAR loaded in memory and null otherwise.
+     */
+    public @Nullable ConfigurationMetadata get(@NotNull VirtualFile jarFile, DocumentFormat documentFormat,
+                                               @NotNull String providers) {
+        String key = getKey(jarFile, documentFormat, providers);
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    /**
+     * Loads in memory the properties of the given JAR from its cache file, if it exists. This method reads a file, so it
+     * must not be called in a read action.
+     *
+     * @param jarFile        the local JAR file.
+     * @param documentFormat the document format used for the descriptions.
+     * @param providers      the key of the properties providers applied to the JAR.
+     * @return the properties of the given JAR and null if the JAR has not been scanned yet or has changed.
+     */
+    public @Nullable ConfigurationMetadata load(@NotNull VirtualFile jarFile, DocumentFormat documentFormat,
+                                                @NotNull String providers) {
+        String key = getKey(jarFile, documentFormat, providers);
+        ConfigurationMetadata metadata;
+        synchronized (cache) {
+            metadata = cache.get(key);
+        }
+        if (metadata != null) {
+            return metadata;
+        }
+        Path file = getCacheFile(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            metadata = gson.fromJson(reader, ConfigurationMetadata.class);
+        } catch (Exception e) {
+            // Corrupted cache file, the JAR will be scanned again
+            LOGGER.warn("Error while reading MicroProfile properties cache '" + file + "'", e);
+            return null;
+        }
+        if (metadata != null) {
+            synchronized (cache) {
+                cache.put(key, metadata);
+            }
+            touch(file);
+        }
+        return metadata;
+    }
+
+    /**
+     * Stores the properties collected from the given JAR in memory, and in its cache file in background.
+     *
+     * @param jarFile        the local JAR file.
+     * @param documentFormat the document format used for the descriptions.
+     * @param providers      the key of the properties providers applied to the JAR.
+     * @param metadata       the properties collected from the JAR.
+     * @return the future completed when the cache file has been written.
+     */
+    public Future<?> put(@NotNull VirtualFile jarFile, DocumentFormat documentFormat, @NotNull String providers,
+                         @NotNull ConfigurationMetadata metadata) {
+        String key = getKey(jarFile, documentFormat, providers);
+        synchronized (cache) {
+            cache.put(key, metadata);
+        }
+        if (pruned.compareAndSet(false, true)) {
+            ioExecutor.execute(this::pruneCacheFiles);
+        }
+        return ioExecutor.submit(() -> write(key, metadata));
+    }
+
+    private void write(String key, ConfigurationMetadata metadata) {
+        Path file = getCacheFile(key);
+        try {
+            Files.createDirectories(cacheDirectory);
+            // Write in a temporary file first to never read a partially written cache file
+            Path tmpFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+                gson.toJson(metadata, writer);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Error while writing MicroProfile properties cache '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Deletes the cache files which have not been used for {@link #MAX_FILE_AGE} (ex : JARs of a previous version of
+     * a dependency) and the least recently used files above {@link #MAX_FILES}.
+     */
+    private void pruneCacheFiles() {
+        if (!Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(cacheDirectory)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            LOGGER.warn("Error while listing MicroProfile properties cache '" + cacheDirectory + "'", e);
+            return;
+        }
+        long minTime = System.currentTimeMillis() - MAX_FILE_AGE.toMillis();
+        files.sort(Comparator.comparingLong(LibraryPropertiesCache::getLastModifiedTime).reversed());
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            if (i >= MAX_FILES || getLastModifiedTime(file) < minTime) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    LOGGER.warn("Error while deleting MicroProfile properties cache '" + file + "'", e);
+                }
+            }
+        }
+    }
+
+    private static long getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Updates the modification time of a cache file when it is used, so that it is not pruned.
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // The file is pruned earlier than expected, the JAR will be scanned again
+        }
+    }
+
+    private String getKey(VirtualFile jarFile, DocumentFormat documentFormat, String providers) {
+        String key = CACHE_VERSION + "|" + pluginVersion + "|" + documentFormat + "|" + providers + "|"
+                + jarFile.getPath() + "|" + jarFile.getLength() + "|" + jarFile.getTimeStamp();
+        return jarFile.getNameWithoutExtension() + "-" + StringUtil.toHexString(sha256(key));
+    }
+
+    private Path getCacheFile(String key) {
+        return cacheDirectory.resolve(key + ".json");
+    }
+
+    private static byte[] sha256(String s) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
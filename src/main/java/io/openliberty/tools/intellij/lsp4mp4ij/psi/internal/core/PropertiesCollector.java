@@ -13,11 +13,15 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
@@ -38,6 +42,17 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final Map<String, ItemHint> hintsCache;
 
+	// Property name -> indexes of the properties with this name in the properties list, in order
+	private final Map<String, Deque<Integer>> propertiesIndex;
+
+	// Number of replaced properties which are set to null in the properties list until the end of the merge
+	private int removedProperties;
+
+	// Keys of the properties which are not declared by a Java element (ex : mp-rest properties)
+	private final Set<String> unboundPropertyKeys;
+
+	private final List<MicroProfilePropertiesScope> scopes;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,9 +60,21 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesIndex = new HashMap<>();
+		this.unboundPropertyKeys = new HashSet<>();
+		this.scopes = scopes;
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
+	/**
+	 * Returns the scopes of the collected properties.
+	 *
+	 * @return the scopes of the collected properties.
+	 */
+	public List<MicroProfilePropertiesScope> getScopes() {
+		return scopes;
+	}
+
 	@Override
 	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
 			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
@@ -70,10 +97,23 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addUniqueProperty(property);
 		return property;
 	}
 
+	/**
+	 * Adds the property, except if it is not declared by a Java element and an identical property has already been
+	 * added. Such properties (ex : mp-rest properties) are added once per search by the providers, and the properties
+	 * of the library JARs are collected with a search per JAR.
+	 */
+	private void addUniqueProperty(ItemMetadata property) {
+		if (property.getSourceType() == null && property.getSourceField() == null && property.getSourceMethod() == null
+				&& !unboundPropertyKeys.add(property.getName() + "|" + property.getType())) {
+			return;
+		}
+		addProperty(property);
+	}
+
 	@Override
 	public boolean hasItemHint(String hint) {
 		return hintsCache.containsKey(hint);
@@ -97,8 +137,9 @@ public class PropertiesCollector implements IPropertiesCollector {
 		List<ItemMetadata> properties = metadata.getProperties();
 		if (properties != null) {
 			for (ItemMetadata property: properties) {
-				merge(property, mergingStrategy);
+				mergeProperty(property, mergingStrategy);
 			}
+			removeReplacedProperties();
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -109,6 +150,11 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	public void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+		mergeProperty(property, mergingStrategy);
+		removeReplacedProperties();
+	}
+
+	private void mergeProperty(ItemMetadata property, MergingStrategy mergingStrategy) {
 		if (onlySources && (property.getSource() == null || !property.getSource())) {
 			// In the case of the scopes is only sources, the property which is a binary
 			// property must not be added.
@@ -128,30 +174,97 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (propertiesIndex.containsKey(property.getName())) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		Optional<ItemMetadata> configProperty = configProperties.stream()
-				.filter(cp -> cp.getName().equals(property.getName())).findFirst();
-		return configProperty;
-	}
-
 	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+		Deque<Integer> indexes = propertiesIndex.get(property.getName());
+		if (indexes != null) {
+			// The first property with this name is replaced by a null tombstone, removed at the end of the merge, and
+			// the next one (added with FORCE) becomes the first one. The new property is added at the end.
+			configuration.getProperties().set(indexes.poll(), null);
+			removedProperties++;
+			if (indexes.isEmpty()) {
+				propertiesIndex.remove(property.getName());
+			}
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
-		configuration.getProperties().add(property);
+		List<ItemMetadata> properties = configuration.getProperties();
+		propertiesIndex.computeIfAbsent(property.getName(), k -> new ArrayDeque<>()).add(properties.size());
+		properties.add(property);
+	}
+
+	/**
+	 * Removes the tombstones of the replaced properties in one pass and rebuilds the index of the properties.
+	 */
+	private void removeReplacedProperties() {
+		if (removedProperties == 0) {
+			return;
+		}
+		List<ItemMetadata> properties = configuration.getProperties();
+		properties.removeIf(Objects::isNull);
+		removedProperties = 0;
+		propertiesIndex.clear();
+		for (int i = 0; i < properties.size(); i++) {
+			propertiesIndex.computeIfAbsent(properties.get(i).getName(), k -> new ArrayDeque<>()).add(i);
+		}
+	}
+
+	/**
+	 * Adds the properties and hints collected by the properties providers with another collector (from a library JAR
+	 * or from a part of the search matches), as the providers would have added them if they had been collected with
+	 * this collector: the properties are added as is, an enum hint is added only if it doesn't exist yet, and the
+	 * values of the other hints are appended to the existing hint.
+	 *
+	 * <p>
+	 * The given metadata can be shared by all the projects which use a JAR, so the hints are copied before being
+	 * updated by this collector.
+	 * </p>
+	 *
+	 * @param metadata the properties and hints collected with another collector.
+	 */
+	public void addAll(ConfigurationMetadata metadata) {
+		if (metadata.getProperties() != null) {
+			for (ItemMetadata property : metadata.getProperties()) {
+				addUniqueProperty(property);
+			}
+		}
+		if (metadata.getHints() != null) {
+			for (ItemHint itemHint : metadata.getHints()) {
+				ItemHint existingItemHint = getExistingItemHint(itemHint.getName());
+				if (existingItemHint == null) {
+					addItemHint(copy(itemHint));
+				} else if (!itemHint.getName().equals(itemHint.getSourceType())) {
+					// Hint filled by several Java types (ex : the REST clients of the mp-rest properties)
+					if (existingItemHint.getValues() == null) {
+						existingItemHint.setValues(new ArrayList<>());
+					}
+					if (itemHint.getValues() != null) {
+						existingItemHint.getValues().addAll(itemHint.getValues());
+					}
+					if (Boolean.TRUE.equals(itemHint.getSource())) {
+						existingItemHint.setSource(Boolean.TRUE);
+					}
+				}
+			}
+		}
+	}
+
+	private static ItemHint copy(ItemHint itemHint) {
+		ItemHint copy = new ItemHint();
+		copy.setName(itemHint.getName());
+		copy.setDescription(itemHint.getDescription());
+		copy.setSourceType(itemHint.getSourceType());
+		copy.setSource(itemHint.getSource());
+		copy.setProviders(itemHint.getProviders() != null ? new ArrayList<>(itemHint.getProviders()) : null);
+		copy.setValues(itemHint.getValues() != null ? new ArrayList<>(itemHint.getValues()) : new ArrayList<>());
+		return copy;
 	}
 
 	// --------------- ItemHint merge
@@ -174,28 +287,42 @@ public class PropertiesCollector implements IPropertiesCollector {
 		if (to.getValues() == null) {
 			to.setValues(new ArrayList<>());
 		}
+		List<ValueHint> values = to.getValues();
+		Map<String, Deque<Integer>> valuesIndex = null;
+		if (mergingStrategy != MergingStrategy.FORCE) {
+			// Value -> indexes of the value hints with this value, in order
+			valuesIndex = new HashMap<>();
+			for (int i = 0; i < values.size(); i++) {
+				valuesIndex.computeIfAbsent(values.get(i).getValue(), k -> new ArrayDeque<>()).add(i);
+			}
+		}
+		boolean removedValues = false;
 		for (ValueHint fromValue : from) {
 			switch (mergingStrategy) {
 				case IGNORE_IF_EXISTS:
-					if (!getExistingValue(fromValue.getValue(), to.getValues()).isPresent()) {
-						to.getValues().add(fromValue);
+					if (!valuesIndex.containsKey(fromValue.getValue())) {
+						valuesIndex.computeIfAbsent(fromValue.getValue(), k -> new ArrayDeque<>()).add(values.size());
+						values.add(fromValue);
 					}
 					break;
 				case REPLACE:
-					Optional<ValueHint> existingValue = getExistingValue(fromValue.getValue(), to.getValues());
-					if (existingValue.isPresent()) {
-						to.getValues().remove(existingValue.get());
+					Deque<Integer> indexes = valuesIndex.computeIfAbsent(fromValue.getValue(), k -> new ArrayDeque<>());
+					if (!indexes.isEmpty()) {
+						// The first value hint with this value is replaced by a null tombstone, and the next one (added
+						// with FORCE) becomes the first one. The new value is added at the end.
+						values.set(indexes.poll(), null);
+						removedValues = true;
 					}
-					to.getValues().add(fromValue);
+					indexes.add(values.size());
+					values.add(fromValue);
 					break;
 				default:
-					to.getValues().add(fromValue);
+					values.add(fromValue);
 			}
 		}
-	}
-
-	private static Optional<ValueHint> getExistingValue(String name, List<ValueHint> values) {
-		return values.stream().filter(cp -> cp.getValue().equals(name)).findFirst();
+		if (removedValues) {
+			values.removeIf(Objects::isNull);
+		}
 	}
 
 	private ItemHint getExistingItemHint(String hint) {
@@ -16,7 +16,7 @@ package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
 import com.intellij.openapi.module.Module;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.AbstractStaticPropertiesProvider;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.SearchContext;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 
 /**
  * MicroProfile static properties provider.
@@ -41,13 +41,20 @@ public class StaticPropertyProvider extends AbstractStaticPropertiesProvider {
 		this.type = type;
 	}
 
+	@Override
+	public String[] getRequiredTypes() {
+		return type != null ? new String[] { type } : null;
+	}
+
 	@Override
 	protected boolean isAdaptedFor(SearchContext context) {
 		if (type == null) {
 			return true;
 		} else {
 			Module javaProject = context.getJavaProject();
-			return (PsiTypeUtils.findType(javaProject, type) != null);
+			return PsiMicroProfileProjectManager.getInstance(javaProject.getProject())
+					.getInternalMicroProfileProject(javaProject)
+					.hasType(type);
 		}
 	}
 
@@ -55,6 +55,7 @@ public final class JavaDiagnosticsDefinition extends BaseKeyedLazyInstance<IJava
                 () -> getInstance().isAdaptedForDiagnostics(context),
                 e -> {
                     LOGGER.log(Level.WARNING, "Error while calling isAdaptedForDiagnostics", e);
+                    context.setParticipantFailed();
                     return false;
                 }
         );
@@ -69,6 +70,7 @@ public final class JavaDiagnosticsDefinition extends BaseKeyedLazyInstance<IJava
             },
             e -> {
                 LOGGER.log(Level.WARNING, "Error while calling beginDiagnostics", e);
+                context.setParticipantFailed();
                 return false;
             }
         );
@@ -83,6 +85,7 @@ public final class JavaDiagnosticsDefinition extends BaseKeyedLazyInstance<IJava
                 },
                 e -> {
                     LOGGER.log(Level.WARNING, "Error while calling collectDiagnostics", e);
+                    context.setParticipantFailed();
                     return Collections.emptyList();
                 }
         );
@@ -98,6 +101,7 @@ public final class JavaDiagnosticsDefinition extends BaseKeyedLazyInstance<IJava
             },
             e -> {
                 LOGGER.log(Level.WARNING, "Error while calling endDiagnostics", e);
+                context.setParticipantFailed();
                 return false;
             }
         );
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4jakarta.it.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.testFramework.fixtures.JavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.DiagnosticsUtils;
+
+/**
+ * Tests the cache of the Java types resolved by {@link DiagnosticsUtils#isResolvableType}.
+ */
+public class DiagnosticsUtilsTest extends JavaCodeInsightFixtureTestCase {
+
+    private static final String INJECT = "jakarta.inject.Inject";
+
+    public void testTypeAddedAfterNegativeLookup() {
+        assertFalse(isResolvableType(INJECT));
+
+        myFixture.addClass("""
+                package jakarta.inject;
+                public @interface Inject {
+                }
+                """);
+
+        assertTrue(isResolvableType(INJECT));
+    }
+
+    public void testResolvedTypeIsCached() {
+        myFixture.addClass("""
+                package jakarta.inject;
+                public @interface Inject {
+                }
+                """);
+
+        assertTrue(isResolvableType(INJECT));
+        assertTrue(isResolvableType(INJECT));
+        assertFalse(isResolvableType("jakarta.inject.Named"));
+    }
+
+    private boolean isResolvableType(String typeFQName) {
+        return ReadAction.compute(() -> DiagnosticsUtils.isResolvableType(getProject(), typeFQName));
+    }
+}
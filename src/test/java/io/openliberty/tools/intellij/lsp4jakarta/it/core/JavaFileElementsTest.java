@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4jakarta.it.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.testFramework.fixtures.JavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileElements;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence.PersistenceEntityDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+
+/**
+ * Tests the elements collected by {@link JavaFileElements} and the collectors skipped for the Java files which don't
+ * use their annotations.
+ */
+public class JavaFileElementsTest extends JavaCodeInsightFixtureTestCase {
+
+    private static final String ENTITY = "jakarta.persistence.Entity";
+
+    private static final String BOOK = """
+            package org.acme;
+            @Deprecated
+            public class Book {
+                private String title;
+                public String getTitle() {
+                    return title.trim();
+                }
+            }
+            """;
+
+    public void testElementsAreCachedUntilFileIsModified() {
+        PsiJavaFile file = addJavaFile(BOOK);
+        JavaFileElements elements = getInstance(file);
+        assertSame(elements, getInstance(file));
+        assertEquals(1, elements.getMethodDeclarations().size());
+        assertEquals(1, elements.getMethodInvocations().size());
+
+        updateJavaFile(file, BOOK.replace("return title.trim();", "return title.trim().strip();"));
+
+        JavaFileElements updated = getInstance(file);
+        assertNotSame(elements, updated);
+        assertEquals(2, updated.getMethodInvocations().size());
+    }
+
+    public void testMayHaveAnnotation() {
+        PsiJavaFile file = addJavaFile(BOOK);
+        assertTrue(getInstance(file).mayHaveAnnotation("java.lang.Deprecated"));
+        assertFalse(getInstance(file).mayHaveAnnotation(ENTITY));
+
+        updateJavaFile(file, BOOK.replace("@Deprecated", "@jakarta.persistence.Entity"));
+
+        // An annotation used with its fully qualified name is matched by its simple name
+        assertTrue(getInstance(file).mayHaveAnnotation("java.lang.SuppressWarnings", ENTITY));
+    }
+
+    public void testMayHaveAnnotationOfMembersAndParameters() {
+        PsiJavaFile file = addJavaFile("""
+                package org.acme;
+                public class Book {
+                    public void setTitle(@jakarta.validation.constraints.NotNull String title) {
+                    }
+                    public static class Page {
+                        @jakarta.persistence.Id
+                        private int number;
+                    }
+                }
+                """);
+
+        assertTrue(getInstance(file).mayHaveAnnotation("jakarta.validation.constraints.NotNull"));
+        assertTrue(getInstance(file).mayHaveAnnotation("jakarta.persistence.Id"));
+        assertFalse(getInstance(file).mayHaveAnnotation(ENTITY));
+    }
+
+    public void testCollectorIsSkippedWithoutItsAnnotation() {
+        PsiJavaFile file = addJavaFile(BOOK);
+        PersistenceEntityDiagnosticsCollector collector = new PersistenceEntityDiagnosticsCollector();
+        assertFalse(isAdaptedForDiagnostics(collector, file));
+
+        updateJavaFile(file, "import jakarta.persistence.Entity;\n" + BOOK.replace("@Deprecated", "@Entity")
+                .replace("package org.acme;\n", ""));
+
+        assertTrue(isAdaptedForDiagnostics(collector, file));
+    }
+
+    private boolean isAdaptedForDiagnostics(PersistenceEntityDiagnosticsCollector collector, PsiJavaFile file) {
+        return ReadAction.compute(() -> {
+            JavaDiagnosticsContext context = new JavaDiagnosticsContext(file.getVirtualFile().getUrl(), file,
+                    PsiUtilsLSImpl.getInstance(getProject()), getModule(), DocumentFormat.PlainText, null);
+            return collector.isAdaptedForDiagnostics(context);
+        });
+    }
+
+    private PsiJavaFile addJavaFile(String text) {
+        return (PsiJavaFile) myFixture.addFileToProject("org/acme/Book.java", text);
+    }
+
+    private void updateJavaFile(PsiJavaFile file, String text) {
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+            documentManager.getDocument(file).setText(text);
+            documentManager.commitAllDocuments();
+        });
+    }
+
+    private static JavaFileElements getInstance(PsiJavaFile file) {
+        return ReadAction.compute(() -> JavaFileElements.getInstance(file));
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.classpath;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.libraries.Library;
+import com.intellij.openapi.roots.libraries.LibraryTable;
+import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.PsiTestUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.it.core.BaseMicroProfileTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests the modules notified by {@link ClasspathResourceChangedManager#TOPIC} when a library changes, which are
+ * notified synchronously in unit test mode.
+ */
+public class ClasspathLibrariesChangedTest extends BaseMicroProfileTest {
+
+    private final List<Set<Module>> notifiedModules = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ClasspathResourceChangedManager.getInstance(getProject());
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(ClasspathResourceChangedManager.TOPIC,
+                new ClasspathResourceChangedManager.Listener() {
+
+                    @Override
+                    public void librariesChanged() {
+                        fail("The modules which depend on the changed libraries must be notified");
+                    }
+
+                    @Override
+                    public void librariesChanged(Set<Module> modules) {
+                        notifiedModules.add(modules);
+                    }
+
+                    @Override
+                    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+                    }
+                });
+    }
+
+    public void testRemovedLibraryNotifiesDependentModulesOnly() throws Exception {
+        Module api = createModule("api");
+        Module web = createModule("web");
+        addDependency(web, api);
+        createModule("other");
+        VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir("lib");
+        Library library = PsiTestUtil.addProjectLibrary(api, "greeting-lib", root);
+        notifiedModules.clear();
+
+        WriteAction.runAndWait(() -> getLibraryTable().removeLibrary(library));
+
+        // The module which depends on the module of the library is notified too
+        assertEquals(List.of(Set.of(api, web)), notifiedModules);
+    }
+
+    public void testAddedLibraryWithoutDependentNotifiesAllModules() throws Exception {
+        Module api = createModule("api");
+
+        WriteAction.runAndWait(() -> getLibraryTable().createLibrary("greeting-lib"));
+
+        assertEquals(List.of(Set.of(getModule(), api)), notifiedModules);
+    }
+
+    private LibraryTable getLibraryTable() {
+        return LibraryTablesRegistrar.getInstance().getLibraryTable(getProject());
+    }
+}
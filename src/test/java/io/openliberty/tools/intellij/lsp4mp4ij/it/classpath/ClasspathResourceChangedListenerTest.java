@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.classpath;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.it.core.BaseMicroProfileTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests the file system and PSI changes resolved to source files by the classpath resource changed listener, and
+ * notified synchronously by {@link ClasspathResourceChangedManager#TOPIC} in unit test mode.
+ */
+public class ClasspathResourceChangedListenerTest extends BaseMicroProfileTest {
+
+    private static final String GREETING = """
+            package org.acme;
+            public class Greeting {
+            }
+            """;
+
+    private final List<VirtualFile> notifiedFiles = new CopyOnWriteArrayList<>();
+
+    private VirtualFile directory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ClasspathResourceChangedManager.getInstance(getProject());
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(ClasspathResourceChangedManager.TOPIC,
+                new ClasspathResourceChangedManager.Listener() {
+
+                    @Override
+                    public void librariesChanged() {
+                    }
+
+                    @Override
+                    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+                        sources.forEach(pair -> notifiedFiles.add(pair.getFirst()));
+                    }
+                });
+        directory = myFixture.getTempDirFixture().findOrCreateDir("org/acme");
+    }
+
+    public void testCreatedJavaFileIsNotified() throws Exception {
+        VirtualFile file = createFile("Greeting.java", GREETING);
+
+        assertContainsElements(notifiedFiles, file);
+    }
+
+    public void testIrrelevantFileIsNotNotified() throws Exception {
+        VirtualFile file = createFile("README.txt", "Greeting");
+
+        assertDoesntContain(notifiedFiles, file);
+    }
+
+    public void testDeletedJavaFileIsNotified() throws Exception {
+        VirtualFile file = createFile("Greeting.java", GREETING);
+        notifiedFiles.clear();
+
+        WriteAction.runAndWait(() -> file.delete(this));
+
+        assertContainsElements(notifiedFiles, file);
+    }
+
+    public void testRenamedFileIsResolvedWithItsNewName() throws Exception {
+        VirtualFile file = createFile("Greeting.txt", GREETING);
+        assertDoesntContain(notifiedFiles, file);
+
+        // The kind of the file cached from its old name is reset by the rename
+        WriteAction.runAndWait(() -> {
+            file.rename(this, "Greeting.java");
+            VfsUtil.saveText(file, GREETING.replace("class Greeting {", "class Greeting {\n    String message;"));
+        });
+
+        assertContainsElements(notifiedFiles, file);
+    }
+
+    public void testEditedConfigFileIsNotifiedForEachChange() {
+        PsiFile file = addFile("META-INF/microprofile-config.properties", "greeting.message=hello\n");
+        notifiedFiles.clear();
+
+        updateFile(file, "greeting.message=hi\n");
+        assertContainsElements(notifiedFiles, file.getVirtualFile());
+        notifiedFiles.clear();
+
+        // The file is no longer pending once its change has been notified
+        updateFile(file, "greeting.message=hey\n");
+        assertContainsElements(notifiedFiles, file.getVirtualFile());
+    }
+
+    public void testEditedIrrelevantFileIsNotNotified() {
+        PsiFile file = addFile("org/acme/README.txt", "Greeting");
+        notifiedFiles.clear();
+
+        updateFile(file, "Greeting message");
+
+        assertDoesntContain(notifiedFiles, file.getVirtualFile());
+    }
+
+    private VirtualFile createFile(String name, String text) throws Exception {
+        return WriteAction.computeAndWait(() -> {
+            VirtualFile file = directory.createChildData(this, name);
+            VfsUtil.saveText(file, text);
+            return file;
+        });
+    }
+}
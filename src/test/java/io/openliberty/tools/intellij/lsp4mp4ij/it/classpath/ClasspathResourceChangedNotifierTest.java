@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.classpath;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.it.core.BaseMicroProfileTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests the source files notified by {@link ClasspathResourceChangedManager#TOPIC}, which are notified synchronously
+ * in unit test mode.
+ */
+public class ClasspathResourceChangedNotifierTest extends BaseMicroProfileTest {
+
+    private static final String GREETING_CONFIG = """
+            package org.acme;
+            import org.eclipse.microprofile.config.inject.ConfigProperty;
+            public class GreetingConfig {
+                @ConfigProperty(name = "greeting.message")
+                String message;
+                public String greet(String name) {
+                    return message + " " + name;
+                }
+            }
+            """;
+
+    private final List<VirtualFile> notifiedFiles = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // Starts tracking the changes of the Java, config source files
+        ClasspathResourceChangedManager.getInstance(getProject());
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(ClasspathResourceChangedManager.TOPIC,
+                new ClasspathResourceChangedManager.Listener() {
+
+                    @Override
+                    public void librariesChanged() {
+                    }
+
+                    @Override
+                    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+                        sources.forEach(pair -> notifiedFiles.add(pair.getFirst()));
+                    }
+                });
+        addConfigStubs();
+    }
+
+    public void testMethodBodyEditIsSuppressed() {
+        PsiFile file = addGreetingConfig();
+
+        updateFile(file, GREETING_CONFIG.replace("message + \" \" + name", "message + \", \" + name"));
+
+        assertDoesntContain(notifiedFiles, file.getVirtualFile());
+    }
+
+    public void testCommentEditIsSuppressed() {
+        PsiFile file = addGreetingConfig();
+
+        updateFile(file, GREETING_CONFIG.replace("String message;", "String message; // the message"));
+
+        assertDoesntContain(notifiedFiles, file.getVirtualFile());
+    }
+
+    public void testConfigPropertyEditIsNotified() {
+        PsiFile file = addGreetingConfig();
+
+        updateFile(file, GREETING_CONFIG.replace("greeting.message", "greeting.text"));
+
+        assertContainsElements(notifiedFiles, file.getVirtualFile());
+    }
+
+    public void testFieldEditIsNotified() {
+        PsiFile file = addGreetingConfig();
+
+        updateFile(file, GREETING_CONFIG.replace("String message;", "String message;\n    int count;"));
+
+        assertContainsElements(notifiedFiles, file.getVirtualFile());
+    }
+
+    public void testConfigFileEditIsNotified() {
+        PsiFile file = addFile("META-INF/microprofile-config.properties", "greeting.message=hello\n");
+        notifiedFiles.clear();
+
+        updateFile(file, "greeting.message=hi\n");
+
+        assertContainsElements(notifiedFiles, file.getVirtualFile());
+    }
+
+    /**
+     * Adds the greeting config and makes sure that its structure fingerprint is known before the tested edit.
+     */
+    private PsiFile addGreetingConfig() {
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG.replace("String name", "String who")
+                .replace("+ name", "+ who"));
+        updateFile(file, GREETING_CONFIG);
+        notifiedFiles.clear();
+        return file;
+    }
+}
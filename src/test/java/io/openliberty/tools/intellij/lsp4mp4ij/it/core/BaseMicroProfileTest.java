@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.JavaModuleType;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.ModuleRootModificationUtil;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.testFramework.fixtures.JavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for the MicroProfile tests which don't need a Maven or Gradle project: the modules are created in the
+ * temporary directory of the fixture, and the MicroProfile APIs used by the tests are declared as source stubs.
+ */
+public abstract class BaseMicroProfileTest extends JavaCodeInsightFixtureTestCase {
+
+    protected static final String CONFIG_PROPERTY_STUB = """
+            package org.eclipse.microprofile.config.inject;
+            public @interface ConfigProperty {
+                String name() default "";
+                String defaultValue() default "";
+            }
+            """;
+
+    protected static final String CONFIG_PROPERTIES_STUB = """
+            package org.eclipse.microprofile.config.inject;
+            public @interface ConfigProperties {
+                String prefix() default "";
+            }
+            """;
+
+    /**
+     * Creates a Java module whose content and source root is the given directory of the fixture.
+     *
+     * @param name the module name and the directory of the module.
+     * @return the created module.
+     */
+    protected Module createModule(String name) throws IOException {
+        VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir(name);
+        Module module = PsiTestUtil.addModule(getProject(), JavaModuleType.getModuleType(), name, root);
+        ModuleRootModificationUtil.setModuleSdk(module, ModuleRootManager.getInstance(getModule()).getSdk());
+        return module;
+    }
+
+    /**
+     * Adds a dependency from the first module to the second one.
+     *
+     * @param from the dependent module.
+     * @param to   the module it depends on.
+     */
+    protected void addDependency(Module from, Module to) {
+        ModuleRootModificationUtil.addDependency(from, to);
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+    }
+
+    /**
+     * Adds the MicroProfile Config annotations to the sources of the default module.
+     */
+    protected void addConfigStubs() {
+        addFile("org/eclipse/microprofile/config/inject/ConfigProperty.java", CONFIG_PROPERTY_STUB);
+        addFile("org/eclipse/microprofile/config/inject/ConfigProperties.java", CONFIG_PROPERTIES_STUB);
+    }
+
+    /**
+     * Adds a file to the fixture.
+     *
+     * @param relativePath the path relative to the temporary directory of the fixture.
+     * @param text         the content of the file.
+     * @return the added file.
+     */
+    protected PsiFile addFile(String relativePath, String text) {
+        PsiFile file = myFixture.addFileToProject(relativePath, text);
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+        return file;
+    }
+
+    /**
+     * Replaces the content of the given file and commits the document, like an editor would do.
+     *
+     * @param file the file to update.
+     * @param text the new content of the file.
+     */
+    protected void updateFile(PsiFile file, String text) {
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+            document.setText(text);
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+    }
+
+    /**
+     * Notifies the MicroProfile caches that the given file of the given module has changed, without waiting for the
+     * debounce of the classpath resource changed notifier.
+     *
+     * @param file   the changed file.
+     * @param module the module of the file.
+     */
+    protected void notifySourceFileChanged(PsiFile file, Module module) {
+        getProject().getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC)
+                .sourceFilesChanged(Set.of(Pair.pair(file.getVirtualFile(), module)));
+    }
+
+    /**
+     * Returns the project info of the given module for the sources and the dependencies scopes.
+     *
+     * @param module the module.
+     * @return the project info of the given module for the sources and the dependencies scopes.
+     */
+    protected MicroProfileProjectInfo getProjectInfo(Module module) {
+        return getProjectInfo(module, List.of(MicroProfilePropertiesScope.sources, MicroProfilePropertiesScope.dependencies));
+    }
+
+    /**
+     * Returns the project info of the given module for the given scopes.
+     *
+     * @param module the module.
+     * @param scopes the scopes.
+     * @return the project info of the given module for the given scopes.
+     */
+    protected MicroProfileProjectInfo getProjectInfo(Module module, List<MicroProfilePropertiesScope> scopes) {
+        return ReadAction.compute(() -> PropertiesManager.getInstance().getMicroProfileProjectInfo(module, scopes,
+                ClasspathKind.SRC, PsiUtilsLSImpl.getInstance(getProject()), DocumentFormat.PlainText,
+                new EmptyProgressIndicator()));
+    }
+
+    /**
+     * Returns the names of the properties of the given project info, in order.
+     *
+     * @param info the project info.
+     * @return the names of the properties of the given project info, in order.
+     */
+    protected static List<String> getPropertyNames(MicroProfileProjectInfo info) {
+        return info.getProperties()
+                .stream()
+                .map(ItemMetadata::getName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.vfs.VirtualFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.ConfigSourceFileIndex;
+
+/**
+ * Tests the invalidation of {@link ConfigSourceFileIndex}.
+ */
+public class ConfigSourceFileIndexTest extends BaseMicroProfileTest {
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+
+    public void testConfigFileCreatedAfterNegativeLookup() {
+        ConfigSourceFileIndex index = ConfigSourceFileIndex.getInstance(getProject());
+        assertNull(index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+
+        VirtualFile file = addFile(CONFIG_FILE, "greeting.message=hello\n").getVirtualFile();
+
+        assertEquals(file, index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+    }
+
+    public void testLocationIsShared() {
+        VirtualFile file = addFile(CONFIG_FILE, "greeting.message=hello\n").getVirtualFile();
+        ConfigSourceFileIndex index = ConfigSourceFileIndex.getInstance(getProject());
+
+        ConfigSourceFileIndex.ConfigFileLocation location = index.getLocation(getModule(), CONFIG_FILE);
+
+        assertEquals(file, location.sourceFile());
+        assertSame(location, index.getLocation(getModule(), CONFIG_FILE));
+    }
+
+    public void testDeletedConfigFile() throws Exception {
+        VirtualFile file = addFile(CONFIG_FILE, "greeting.message=hello\n").getVirtualFile();
+        ConfigSourceFileIndex index = ConfigSourceFileIndex.getInstance(getProject());
+        assertEquals(file, index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+
+        WriteAction.runAndWait(() -> file.delete(this));
+
+        assertNull(index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+    }
+
+    public void testRenamedConfigFile() throws Exception {
+        VirtualFile file = addFile("META-INF/old-config.properties", "greeting.message=hello\n").getVirtualFile();
+        ConfigSourceFileIndex index = ConfigSourceFileIndex.getInstance(getProject());
+        assertNull(index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+
+        WriteAction.runAndWait(() -> file.rename(this, "microprofile-config.properties"));
+
+        assertEquals(file, index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+    }
+
+    public void testLocationIsPerModule() throws Exception {
+        ConfigSourceFileIndex index = ConfigSourceFileIndex.getInstance(getProject());
+        Module b = createModule("b");
+        assertNull(index.getLocation(b, CONFIG_FILE).sourceFile());
+
+        VirtualFile file = addFile("b/" + CONFIG_FILE, "greeting.message=hello\n").getVirtualFile();
+
+        assertEquals(file, index.getLocation(b, CONFIG_FILE).sourceFile());
+        assertNull(index.getLocation(getModule(), CONFIG_FILE).sourceFile());
+    }
+}
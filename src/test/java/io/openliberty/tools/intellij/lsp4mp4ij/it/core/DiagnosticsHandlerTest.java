@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.PsiTestUtil;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.DiagnosticsHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.ConfigSourceFileIndex;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the cache of the Java diagnostics of {@link DiagnosticsHandler} for the microprofile and jakarta groups.
+ */
+public class DiagnosticsHandlerTest extends BaseMicroProfileTest {
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+
+    private static final String GREETING_CONFIG = """
+            package org.acme;
+            import org.eclipse.microprofile.config.inject.ConfigProperty;
+            public class GreetingConfig {
+                @ConfigProperty(name = "greeting.message")
+                String message;
+            }
+            """;
+
+    private static final String ENTITY_STUB = """
+            package jakarta.persistence;
+            public @interface Entity {
+            }
+            """;
+
+    private static final String BOOK = """
+            package org.acme;
+            import jakarta.persistence.Entity;
+            @Entity
+            public class Book {
+                private final String title = "";
+                public Book() {
+                }
+            }
+            """;
+
+    private static final String GREETING_SERVICE = """
+            package org.acme;
+            public class GreetingService {
+                public String greet(String name) {
+                    return "Hello " + name;
+                }
+            }
+            """;
+
+    private static final String MICROPROFILE_GROUP = "mp";
+
+    private static final String JAKARTA_GROUP = "jakarta";
+
+    private static final String PARALLEL_REGISTRY_KEY = "liberty.tools.java.diagnostics.parallel";
+
+    private VirtualFile outputConfigFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // Tracks the changes of the structure of the Java files
+        ClasspathResourceChangedManager.getInstance(getProject());
+        // The config file of the output directory is excluded from the content of the module like in a Maven project
+        VirtualFile output = myFixture.getTempDirFixture().findOrCreateDir("target/classes");
+        PsiTestUtil.addExcludedRoot(getModule(), output);
+        PsiTestUtil.setCompilerOutputPath(getModule(), output.getUrl(), false);
+        outputConfigFile = WriteAction.computeAndWait(() -> {
+            VirtualFile file = VfsUtil.createDirectoryIfMissing(output, "META-INF")
+                    .createChildData(this, "microprofile-config.properties");
+            VfsUtil.saveText(file, "greeting.name=world\n");
+            return file;
+        });
+    }
+
+    public void testMicroProfileDiagnosticsAreCached() {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+        List<Diagnostic> diagnostics = getMicroProfileDiagnostics(file);
+        assertFalse(diagnostics.isEmpty());
+        Object cached = getCachedDiagnostics(file, MICROPROFILE_GROUP);
+        assertNotNull(cached);
+
+        assertEquals(diagnostics, getMicroProfileDiagnostics(file));
+        assertSame(cached, getCachedDiagnostics(file, MICROPROFILE_GROUP));
+    }
+
+    public void testReturnedDiagnosticsAreCopies() {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+        List<Diagnostic> diagnostics = getMicroProfileDiagnostics(file);
+        String message = diagnostics.get(0).getMessage();
+
+        // A caller which adapts the returned diagnostics doesn't change the cached diagnostics
+        diagnostics.get(0).setMessage("changed");
+        diagnostics.get(0).getRange().getStart().setLine(100);
+
+        Diagnostic diagnostic = getMicroProfileDiagnostics(file).get(0);
+        assertEquals(message, diagnostic.getMessage());
+        assertNotSame(diagnostics.get(0), diagnostic);
+        assertTrue(diagnostic.getRange().getStart().getLine() < 100);
+    }
+
+    public void testMicroProfileDiagnosticsAreInvalidatedByOutputConfigFile() throws Exception {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+        getMicroProfileDiagnostics(file);
+        Object cached = getCachedDiagnostics(file, MICROPROFILE_GROUP);
+
+        updateOutputConfigFile("greeting.name=everyone\n");
+        getMicroProfileDiagnostics(file);
+
+        assertNotSame(cached, getCachedDiagnostics(file, MICROPROFILE_GROUP));
+    }
+
+    public void testMethodBodyEditInAnotherFileKeepsDiagnostics() {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+        PsiFile other = addGreetingService();
+        getMicroProfileDiagnostics(file);
+        Object cached = getCachedDiagnostics(file, MICROPROFILE_GROUP);
+
+        updateFile(other, GREETING_SERVICE.replace("\"Hello \"", "\"Hi \""));
+        getMicroProfileDiagnostics(file);
+
+        assertSame(cached, getCachedDiagnostics(file, MICROPROFILE_GROUP));
+    }
+
+    public void testStructureEditInAnotherFileInvalidatesDiagnostics() {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+        PsiFile other = addGreetingService();
+        getMicroProfileDiagnostics(file);
+        Object cached = getCachedDiagnostics(file, MICROPROFILE_GROUP);
+
+        updateFile(other, GREETING_SERVICE.replace("String greet(", "String hello("));
+        getMicroProfileDiagnostics(file);
+
+        assertNotSame(cached, getCachedDiagnostics(file, MICROPROFILE_GROUP));
+    }
+
+    public void testJakartaDiagnosticsAreCached() {
+        addFile("jakarta/persistence/Entity.java", ENTITY_STUB);
+        PsiFile file = addFile("org/acme/Book.java", BOOK);
+        List<Diagnostic> diagnostics = getJakartaDiagnostics(file);
+        assertFalse(diagnostics.isEmpty());
+        Object cached = getCachedDiagnostics(file, JAKARTA_GROUP);
+        assertNotNull(cached);
+
+        assertEquals(diagnostics, getJakartaDiagnostics(file));
+        assertSame(cached, getCachedDiagnostics(file, JAKARTA_GROUP));
+        // The groups don't share their diagnostics
+        assertNull(getCachedDiagnostics(file, MICROPROFILE_GROUP));
+    }
+
+    public void testJakartaDiagnosticsAreInvalidatedByOutputConfigFile() throws Exception {
+        addFile("jakarta/persistence/Entity.java", ENTITY_STUB);
+        PsiFile file = addFile("org/acme/Book.java", BOOK);
+        // The config sources of the module are loaded (ex : by the MicroProfile diagnostics of another file)
+        assertEquals(outputConfigFile, ConfigSourceFileIndex.getInstance(getProject())
+                .getLocation(getModule(), CONFIG_FILE).outputFile());
+        getJakartaDiagnostics(file);
+        Object cached = getCachedDiagnostics(file, JAKARTA_GROUP);
+
+        updateOutputConfigFile("greeting.message=hello\n");
+        getJakartaDiagnostics(file);
+
+        assertNotSame(cached, getCachedDiagnostics(file, JAKARTA_GROUP));
+    }
+
+    public void testJakartaDiagnosticsAreInvalidatedByStructureEdit() {
+        addFile("jakarta/persistence/Entity.java", ENTITY_STUB);
+        PsiFile file = addFile("org/acme/Book.java", BOOK);
+        PsiFile other = addGreetingService();
+        getJakartaDiagnostics(file);
+        Object cached = getCachedDiagnostics(file, JAKARTA_GROUP);
+
+        updateFile(other, GREETING_SERVICE.replace("String greet(", "String hello("));
+        getJakartaDiagnostics(file);
+
+        assertNotSame(cached, getCachedDiagnostics(file, JAKARTA_GROUP));
+    }
+
+    public void testConcurrentDiagnosticsOfSeveralUrisAreSameAsSequential() {
+        addConfigStubs();
+        List<PsiFile> files = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            files.add(addFile("org/acme/GreetingConfig" + i + ".java", GREETING_CONFIG
+                    .replace("GreetingConfig", "GreetingConfig" + i)
+                    .replace("greeting.message", "greeting.message" + i)));
+        }
+        List<PublishDiagnosticsParams> concurrent = getMicroProfileDiagnostics(files);
+        List<Object> cached = new ArrayList<>();
+        for (PsiFile file : files) {
+            // Each file stores its own diagnostics
+            cached.add(getCachedDiagnostics(file, MICROPROFILE_GROUP));
+            clearCachedDiagnostics(file, MICROPROFILE_GROUP);
+        }
+        assertDoesntContain(cached, (Object) null);
+
+        Registry.get(PARALLEL_REGISTRY_KEY).setValue(false, getTestRootDisposable());
+        List<PublishDiagnosticsParams> sequential = getMicroProfileDiagnostics(files);
+
+        // The results keep the order of the requested URIs
+        assertEquals(files.stream().map(file -> getUri(file.getVirtualFile())).collect(Collectors.toList()),
+                concurrent.stream().map(PublishDiagnosticsParams::getUri).collect(Collectors.toList()));
+        assertEquals(sequential, concurrent);
+        for (int i = 0; i < files.size(); i++) {
+            assertFalse(concurrent.get(i).getDiagnostics().isEmpty());
+            assertTrue(concurrent.get(i).getDiagnostics().get(0).getMessage().contains("greeting.message" + i));
+            assertNotNull(getCachedDiagnostics(files.get(i), MICROPROFILE_GROUP));
+        }
+    }
+
+    private PsiFile addGreetingService() {
+        PsiFile file = addFile("org/acme/GreetingService.java", GREETING_SERVICE.replace("String greet(", "String welcome("));
+        // The structure fingerprint of the file is known before the tested edit
+        updateFile(file, GREETING_SERVICE);
+        return file;
+    }
+
+    private void updateOutputConfigFile(String text) throws Exception {
+        WriteAction.runAndWait(() -> VfsUtil.saveText(outputConfigFile, text));
+    }
+
+    private List<Diagnostic> getMicroProfileDiagnostics(PsiFile file) {
+        return getDiagnostics(getMicroProfileDiagnostics(List.of(file)));
+    }
+
+    private List<PublishDiagnosticsParams> getMicroProfileDiagnostics(List<PsiFile> files) {
+        MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+        params.setUris(files.stream().map(file -> getUri(file.getVirtualFile())).collect(Collectors.toList()));
+        params.setDocumentFormat(DocumentFormat.PlainText);
+        return ReadAction.compute(() -> PropertiesManagerForJava.getInstance()
+                .diagnostics(params, PsiUtilsLSImpl.getInstance(getProject())));
+    }
+
+    private List<Diagnostic> getJakartaDiagnostics(PsiFile file) {
+        JakartaJavaDiagnosticsParams params = new JakartaJavaDiagnosticsParams();
+        params.setUris(List.of(getUri(file.getVirtualFile())));
+        return ReadAction.compute(() -> getDiagnostics(PropertiesManagerForJakarta.getInstance()
+                .diagnostics(params, PsiUtilsLSImpl.getInstance(getProject()))));
+    }
+
+    private static List<Diagnostic> getDiagnostics(List<PublishDiagnosticsParams> publishDiagnostics) {
+        assertEquals(1, publishDiagnostics.size());
+        return publishDiagnostics.get(0).getDiagnostics();
+    }
+
+    /**
+     * Returns the cache entry of the diagnostics of the given file for the given group, which is replaced each time
+     * the diagnostics are computed again.
+     */
+    private static Object getCachedDiagnostics(PsiFile file, String group) {
+        Key<?> key = Key.findKeyByName("liberty.tools.java.diagnostics." + group);
+        return key != null ? file.getUserData(key) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void clearCachedDiagnostics(PsiFile file, String group) {
+        Key<Object> key = (Key<Object>) Key.findKeyByName("liberty.tools.java.diagnostics." + group);
+        file.putUserData(key, null);
+    }
+
+    private static String getUri(VirtualFile file) {
+        return VfsUtilCore.virtualToIoFile(file).toURI().toString();
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.config.java.MicroProfileConfigASTValidator;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the properties without value reported by {@link MicroProfileConfigASTValidator}, which looks up each
+ * property name once per Java file.
+ */
+public class MicroProfileConfigASTValidatorTest extends BaseMicroProfileTest {
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+
+    private static final String GREETING_CONFIG = """
+            package org.acme;
+            import org.eclipse.microprofile.config.inject.ConfigProperty;
+            public class GreetingConfig {
+                @ConfigProperty(name = "greeting.message")
+                String message;
+                @ConfigProperty(name = "greeting.message")
+                String defaultMessage;
+                @ConfigProperty(name = "greeting.name")
+                String name;
+            }
+            """;
+
+    public void testPropertyInjectedInSeveralFieldsIsReportedForEachField() {
+        addConfigStubs();
+        addFile(CONFIG_FILE, "greeting.name=world\n");
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+
+        List<String> messages = getDiagnosticMessages(file, List.of());
+
+        assertEquals(2, messages.size());
+        assertTrue(messages.stream().allMatch(message -> message.contains("greeting.message")));
+    }
+
+    public void testIgnoredPropertyIsNotReported() {
+        addConfigStubs();
+        addFile(CONFIG_FILE, "greeting.name=world\n");
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+
+        assertEmpty(getDiagnosticMessages(file, List.of("greeting.message")));
+    }
+
+    public void testPropertyAssignedInEditedConfigFileIsNotReported() {
+        addConfigStubs();
+        PsiFile config = addFile(CONFIG_FILE, "greeting.name=world\n");
+        PsiFile file = addFile("org/acme/GreetingConfig.java", GREETING_CONFIG);
+        assertEquals(2, getDiagnosticMessages(file, List.of()).size());
+
+        updateFile(config, "greeting.name=world\ngreeting.message=hello\n");
+
+        assertEmpty(getDiagnosticMessages(file, List.of()));
+    }
+
+    private List<String> getDiagnosticMessages(PsiFile file, List<String> patterns) {
+        MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+        params.setUris(List.of(VfsUtilCore.virtualToIoFile(file.getVirtualFile()).toURI().toString()));
+        params.setDocumentFormat(DocumentFormat.PlainText);
+        params.setSettings(new MicroProfileJavaDiagnosticsSettings(patterns));
+        List<PublishDiagnosticsParams> publishDiagnostics = ReadAction.compute(() -> PropertiesManagerForJava.getInstance()
+                .diagnostics(params, PsiUtilsLSImpl.getInstance(getProject())));
+        assertEquals(1, publishDiagnostics.size());
+        return publishDiagnostics.get(0).getDiagnostics()
+                .stream()
+                .map(Diagnostic::getMessage)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PropertiesConfigSource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Tests the load and the reload of {@link PropertiesConfigSource}.
+ */
+public class PropertiesConfigSourceTest extends BaseMicroProfileTest {
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+
+    public void testReloadUpdatesChangedPropertiesOnly() {
+        PsiFile config = addFile(CONFIG_FILE, """
+                greeting=hello
+                %dev.greeting=hello dev
+                name=world
+                removed=true
+                """);
+        PropertiesConfigSource configSource = new PropertiesConfigSource(CONFIG_FILE, getModule());
+        List<MicroProfileConfigPropertyInformation> name = getPropertyInformations(configSource, "name");
+        assertEquals(2, getPropertyInformations(configSource, "greeting").size());
+
+        updateFile(config, """
+                greeting=hello
+                %dev.greeting=hi dev
+                name=world
+                added=true
+                """);
+        reload(configSource, config);
+
+        // The property informations of the unchanged properties are kept
+        assertSame(name, getPropertyInformations(configSource, "name"));
+        List<MicroProfileConfigPropertyInformation> greeting = getPropertyInformations(configSource, "greeting");
+        assertEquals(2, greeting.size());
+        assertTrue(greeting.stream().anyMatch(info -> "hello".equals(info.getValue())));
+        assertTrue(greeting.stream().anyMatch(info -> "hi dev".equals(info.getValue())));
+        assertNull(getPropertyInformations(configSource, "removed"));
+        assertEquals("true", getPropertyInformations(configSource, "added").get(0).getValue());
+        assertEquals("hi dev", configSource.getProperty("%dev.greeting"));
+    }
+
+    public void testSavedAndEditedFilesAreDecodedWithSameCharset() {
+        PsiFile config = addFile(CONFIG_FILE, "greeting=café\n");
+        PropertiesConfigSource configSource = new PropertiesConfigSource(CONFIG_FILE, getModule());
+        // The saved file is loaded
+        assertEquals("café", configSource.getProperty("greeting"));
+
+        updateFile(config, "greeting=déjà vu\n");
+        reload(configSource, config);
+
+        assertEquals("déjà vu", configSource.getProperty("greeting"));
+    }
+
+    public void testConfigIsLoadedOnFirstPropertyAccess() {
+        addFile(CONFIG_FILE, "greeting=hello\n");
+        int[] loads = new int[1];
+        PropertiesConfigSource configSource = new PropertiesConfigSource(CONFIG_FILE, getModule()) {
+
+            @Override
+            protected Properties loadConfig(CharSequence content) throws IOException {
+                loads[0]++;
+                return super.loadConfig(content);
+            }
+        };
+        // Creating the config source doesn't parse the config file
+        assertEquals(0, loads[0]);
+
+        assertEquals("hello", getPropertyInformations(configSource, "greeting").get(0).getValue());
+        assertEquals("hello", configSource.getProperty("greeting"));
+        assertEquals(1, loads[0]);
+    }
+
+    private static List<MicroProfileConfigPropertyInformation> getPropertyInformations(PropertiesConfigSource configSource,
+                                                                                   String propertyKey) {
+        return ReadAction.compute(() -> configSource.getPropertyInformations(propertyKey));
+    }
+
+    private static void reload(PropertiesConfigSource configSource, PsiFile config) {
+        ReadAction.run(() -> configSource.reload(config));
+    }
+}
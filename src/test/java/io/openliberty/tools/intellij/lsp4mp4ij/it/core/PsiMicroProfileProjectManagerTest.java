@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.registry.Registry;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager.CacheStatistics;
+
+/**
+ * Tests the LRU cache of {@link PsiMicroProfileProjectManager}.
+ */
+public class PsiMicroProfileProjectManagerTest extends BaseMicroProfileTest {
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Registry.get(PsiMicroProfileProjectManager.CACHE_SIZE_REGISTRY_KEY).setValue(1, getTestRootDisposable());
+    }
+
+    public void testLeastRecentlyUsedProjectIsEvicted() throws Exception {
+        Module b = createModule("b");
+        PsiMicroProfileProject mpProject = getManager().getMicroProfileProject(getModule());
+        long evictions = getManager().getCacheStatistics().evictions();
+
+        getManager().getMicroProfileProject(b);
+
+        assertEquals(evictions + 1, getManager().getCacheStatistics().evictions());
+        assertNotSame(mpProject, getManager().getMicroProfileProject(getModule()));
+    }
+
+    public void testEvictedProjectIsRebuiltFromUnsavedConfigFile() throws Exception {
+        PsiFile config = addFile(CONFIG_FILE, "greeting=hello\n");
+        Module b = createModule("b");
+        PsiMicroProfileProject mpProject = getManager().getMicroProfileProject(getModule());
+        assertEquals("hello", mpProject.getProperty("greeting"));
+
+        // The config file is edited without being saved
+        updateFile(config, "greeting=hi\n");
+        getManager().getMicroProfileProject(b);
+
+        PsiMicroProfileProject rebuilt = getManager().getMicroProfileProject(getModule());
+        assertNotSame(mpProject, rebuilt);
+        assertEquals("hi", rebuilt.getProperty("greeting"));
+    }
+
+    public void testInternalLookupsAreNotCounted() {
+        addConfigStubs();
+        CacheStatistics before = getManager().getCacheStatistics();
+
+        // The properties providers check their required types with internal lookups
+        getProjectInfo(getModule());
+        getManager().getInternalMicroProfileProject(getModule());
+
+        CacheStatistics after = getManager().getCacheStatistics();
+        assertEquals(before.hits(), after.hits());
+        assertEquals(before.misses(), after.misses());
+
+        getManager().getMicroProfileProject(getModule());
+        assertEquals(before.hits() + 1, getManager().getCacheStatistics().hits());
+    }
+
+    private PsiMicroProfileProjectManager getManager() {
+        return PsiMicroProfileProjectManager.getInstance(getProject());
+    }
+}
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.core;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests the caches of {@link PsiMicroProfileProject}.
+ */
+public class PsiMicroProfileProjectTest extends BaseMicroProfileTest {
+
+    private static final String CONFIG_FILE = "META-INF/microprofile-config.properties";
+
+    public void testTypeAddedToSourcesAfterNegativeLookup() {
+        // Tracks the changes of the structure of the Java files
+        ClasspathResourceChangedManager.getInstance(getProject());
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertFalse(hasType(mpProject, "org.acme.Greeting"));
+
+        addFile("org/acme/Greeting.java", """
+                package org.acme;
+                public class Greeting {
+                }
+                """);
+
+        assertTrue(hasType(mpProject, "org.acme.Greeting"));
+    }
+
+    public void testMissingTypeIsCachedWhileJavaStructureIsUnchanged() {
+        ClasspathResourceChangedManager.getInstance(getProject());
+        String text = """
+                package org.acme;
+                public class GreetingService {
+                    public String greet() {
+                        return "Hello";
+                    }
+                }
+                """;
+        PsiFile file = addFile("org/acme/GreetingService.java", text.replace("greet()", "welcome()"));
+        // The structure fingerprint of the file is known before the tested edit
+        updateFile(file, text);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertFalse(hasType(mpProject, "org.acme.Greeting"));
+        ModificationTracker javaStructure = ClasspathResourceChangedManager.getInstance(getProject())
+                .getJavaStructureModificationTracker();
+        long javaStructureCount = javaStructure.getModificationCount();
+
+        // Only the method body is changed
+        updateFile(file, text.replace("\"Hello\"", "\"Hi\""));
+
+        assertEquals(javaStructureCount, javaStructure.getModificationCount());
+        assertFalse(hasType(mpProject, "org.acme.Greeting"));
+    }
+
+    public void testTypeOfNewModuleDependency() throws Exception {
+        Module b = createModule("b");
+        addFile("b/org/acme/b/Greeting.java", """
+                package org.acme.b;
+                public class Greeting {
+                }
+                """);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertFalse(hasType(mpProject, "org.acme.b.Greeting"));
+
+        addDependency(getModule(), b);
+
+        assertTrue(hasType(mpProject, "org.acme.b.Greeting"));
+    }
+
+    public void testConfigOrdinalChangeEvictsAllValues() {
+        PsiFile config = addFile(CONFIG_FILE, """
+                config_ordinal=100
+                greeting=hello
+                message=${greeting} world
+                """);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertEquals("hello world", mpProject.getProperty("message"));
+        assertEquals("hello", mpProject.getPropertyInformations("greeting").get(0).getValue());
+
+        updateConfigFile(mpProject, config, """
+                config_ordinal=200
+                greeting=hi
+                message=${greeting} world
+                """);
+
+        assertEquals("200", mpProject.getProperty("config_ordinal"));
+        assertEquals("hi world", mpProject.getProperty("message"));
+        assertEquals("hi", mpProject.getPropertyInformations("greeting").get(0).getValue());
+    }
+
+    public void testNoStaleValueIsCachedDuringEviction() throws Exception {
+        PsiFile config = addFile(CONFIG_FILE, """
+                greeting=hello
+                message=${greeting} world
+                """);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertEquals("hello world", mpProject.getProperty("message"));
+
+        for (int i = 0; i < 20; i++) {
+            AtomicBoolean evicting = new AtomicBoolean(true);
+            List<Future<?>> readers = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                readers.add(ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                    while (evicting.get()) {
+                        ReadAction.run(() -> {
+                            mpProject.getProperty("message");
+                            mpProject.getPropertyInformations("message");
+                        });
+                    }
+                }));
+            }
+            try {
+                updateConfigFile(mpProject, config, """
+                        greeting=hello%d
+                        message=${greeting} world
+                        """.formatted(i));
+            } finally {
+                evicting.set(false);
+            }
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+
+            // The values read while the config source was reloaded must not have been cached
+            assertEquals("hello" + i + " world", mpProject.getProperty("message"));
+            assertEquals("hello" + i + " world", mpProject.getPropertyInformations("message").get(0).getValue());
+        }
+    }
+
+    public void testEditedDependencyEvictsExpandedValue() {
+        PsiFile config = addFile(CONFIG_FILE, """
+                host=localhost
+                port=8080
+                url=http://${host}:${port}
+                name=app
+                title=${name}
+                """);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertEquals("http://localhost:8080", mpProject.getProperty("url"));
+        assertEquals("app", mpProject.getProperty("title"));
+
+        updateConfigFile(mpProject, config, """
+                host=localhost
+                port=9080
+                url=http://${host}:${port}
+                name=app
+                title=${name}
+                """);
+
+        assertEquals("http://localhost:9080", mpProject.getProperty("url"));
+        assertEquals("http://localhost:9080", mpProject.getPropertyInformations("url").get(0).getValue());
+        assertEquals("app", mpProject.getProperty("title"));
+    }
+
+    public void testEditedProfileDependencyEvictsExpandedValue() {
+        PsiFile config = addFile(CONFIG_FILE, """
+                host=localhost
+                %dev.host=dev.acme.org
+                %dev.url=http://${host}
+                """);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertEquals("http://dev.acme.org", mpProject.getProperty("%dev.url"));
+
+        updateConfigFile(mpProject, config, """
+                host=localhost
+                %dev.host=test.acme.org
+                %dev.url=http://${host}
+                """);
+
+        assertEquals("http://test.acme.org", mpProject.getProperty("%dev.url"));
+    }
+
+    public void testNestedExpressionIsExpandedAgainAfterAnyChange() {
+        PsiFile config = addFile(CONFIG_FILE, """
+                env=prod
+                url.prod=https://acme.org
+                url.test=https://test.acme.org
+                url=${url.${env}}
+                """);
+        PsiMicroProfileProject mpProject = getMicroProfileProject(getModule());
+        assertEquals(getFreshProperty("url"), mpProject.getProperty("url"));
+
+        // The dependencies of a nested expression are unknown, any change evicts its value
+        updateConfigFile(mpProject, config, """
+                env=test
+                url.prod=https://acme.org
+                url.test=https://test.acme.org
+                url=${url.${env}}
+                """);
+        assertEquals(getFreshProperty("url"), mpProject.getProperty("url"));
+
+        updateConfigFile(mpProject, config, """
+                env=test
+                url.prod=https://acme.org
+                url.test=https://staging.acme.org
+                url=${url.${env}}
+                """);
+        assertEquals(getFreshProperty("url"), mpProject.getProperty("url"));
+    }
+
+    /**
+     * Returns the value of the given property expanded by a new MicroProfile project, without any cached value.
+     */
+    private String getFreshProperty(String propertyKey) {
+        FileDocumentManager.getInstance().saveAllDocuments();
+        return new PsiMicroProfileProject(getModule()).getProperty(propertyKey);
+    }
+
+    private void updateConfigFile(PsiMicroProfileProject mpProject, PsiFile config, String text) {
+        updateFile(config, text);
+        mpProject.evictConfigSourcesCache(config.getVirtualFile());
+    }
+
+    private PsiMicroProfileProject getMicroProfileProject(Module module) {
+        return PsiMicroProfileProjectManager.getInstance(getProject()).getMicroProfileProject(module);
+    }
+
+    private static boolean hasType(PsiMicroProfileProject mpProject, String typeName) {
+        return ReadAction.compute(() -> mpProject.hasType(typeName));
+    }
+}
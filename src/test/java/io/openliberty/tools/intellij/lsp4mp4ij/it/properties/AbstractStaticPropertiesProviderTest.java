@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.properties;
+
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.AbstractStaticPropertiesProvider;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.SearchContext;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests the static properties metadata loaded by {@link AbstractStaticPropertiesProvider}.
+ */
+@RunWith(JUnit4.class)
+public class AbstractStaticPropertiesProviderTest {
+
+    private static final String METADATA = """
+            {"properties":[{"name":"mp.metrics.tags","type":"java.lang.String"}]}
+            """;
+
+    @Test
+    public void metadataIsParsedOnceAndStreamIsClosed() {
+        TestStaticPropertiesProvider provider = new TestStaticPropertiesProvider(METADATA);
+
+        ConfigurationMetadata metadata = provider.loadMetadata();
+
+        Assert.assertEquals("mp.metrics.tags", metadata.getProperties().get(0).getName());
+        Assert.assertTrue(provider.closed);
+        Assert.assertSame(metadata, provider.loadMetadata());
+        Assert.assertEquals(1, provider.openedStreams);
+    }
+
+    @Test
+    public void metadataWithoutPathIsNull() {
+        TestStaticPropertiesProvider provider = new TestStaticPropertiesProvider(null);
+
+        Assert.assertNull(provider.loadMetadata());
+    }
+
+    private static class TestStaticPropertiesProvider extends AbstractStaticPropertiesProvider {
+
+        private final String json;
+
+        private int openedStreams;
+
+        private boolean closed;
+
+        TestStaticPropertiesProvider(String json) {
+            super(json != null ? "/static-properties/test-metadata.json" : null);
+            this.json = json;
+        }
+
+        @Override
+        protected boolean isAdaptedFor(SearchContext context) {
+            return true;
+        }
+
+        @Override
+        protected InputStream getInputStream() throws IOException {
+            if (json == null) {
+                return super.getInputStream();
+            }
+            openedStreams++;
+            return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+
+                @Override
+                public void close() throws IOException {
+                    closed = true;
+                    super.close();
+                }
+            };
+        }
+    }
+}
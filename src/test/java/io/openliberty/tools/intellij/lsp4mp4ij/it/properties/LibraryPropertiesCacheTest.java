@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.properties;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.LibraryPropertiesCache;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the cache of the MicroProfile properties collected from library JARs.
+ */
+public class LibraryPropertiesCacheTest extends BasePlatformTestCase {
+
+    public void testEntryIsKeyedByProviders() throws Exception {
+        VirtualFile jarFile = myFixture.getTempDirFixture().createFile("providers-" + getTestName(true) + ".jar", "jar");
+        LibraryPropertiesCache cache = new LibraryPropertiesCache();
+        ConfigurationMetadata metadata = metadata("app.url");
+
+        cache.put(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA", metadata);
+
+        assertSame(metadata, cache.get(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA"));
+        // Another module applies other providers to the same JAR
+        assertNull(cache.get(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA,org.acme.ProviderB"));
+        assertNull(cache.get(jarFile, DocumentFormat.Markdown, "org.acme.ProviderA"));
+    }
+
+    public void testEntryIsReadFromDisk() throws Exception {
+        VirtualFile jarFile = myFixture.getTempDirFixture().createFile("disk-" + getTestName(true) + ".jar", "jar");
+        new LibraryPropertiesCache().put(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA", metadata("app.url"))
+                .get(10, TimeUnit.SECONDS);
+
+        // A new instance, like after an IDE restart, reads the cache file only when it is loaded
+        LibraryPropertiesCache cache = new LibraryPropertiesCache();
+        assertNull(cache.get(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA"));
+        ConfigurationMetadata metadata = cache.load(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA");
+
+        assertNotNull(metadata);
+        assertEquals("app.url", metadata.getProperties().get(0).getName());
+        assertSame(metadata, cache.get(jarFile, DocumentFormat.PlainText, "org.acme.ProviderA"));
+    }
+
+    private static ConfigurationMetadata metadata(String propertyName) {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(new ArrayList<>(List.of(PropertiesCollectorTest.property(propertyName, "org.acme.Config"))));
+        metadata.setHints(new ArrayList<>());
+        return metadata;
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.properties;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.PsiFile;
+import io.openliberty.tools.intellij.lsp4mp4ij.it.core.BaseMicroProfileTest;
+
+import java.util.List;
+
+/**
+ * Tests the incremental update of the cached MicroProfile project info when Java files change.
+ */
+public class MicroProfileProjectInfoCacheTest extends BaseMicroProfileTest {
+
+    private static final String GREETING_CONFIG = """
+            package org.acme.a;
+            import org.eclipse.microprofile.config.inject.ConfigProperty;
+            public class GreetingConfig {
+                @ConfigProperty(name = "greeting.message")
+                String message;
+            }
+            """;
+
+    private static final String RENAMED_GREETING_CONFIG = """
+            package org.acme.a;
+            import org.eclipse.microprofile.config.inject.ConfigProperty;
+            public class GreetingConfig {
+                @ConfigProperty(name = "greeting.text")
+                String message;
+            }
+            """;
+
+    public void testChangedFileIsPatchedInOwnModule() {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/a/GreetingConfig.java", GREETING_CONFIG);
+
+        assertContainsElements(getPropertyNames(getProjectInfo(getModule())), "greeting.message");
+
+        updateFile(file, RENAMED_GREETING_CONFIG);
+        notifySourceFileChanged(file, getModule());
+
+        List<String> names = getPropertyNames(getProjectInfo(getModule()));
+        assertContainsElements(names, "greeting.text");
+        assertDoesntContain(names, "greeting.message");
+    }
+
+    public void testFileReferencingChangedConstantIsPatched() {
+        addConfigStubs();
+        PsiFile constants = addFile("org/acme/a/Constants.java", """
+                package org.acme.a;
+                public class Constants {
+                    public static final String KEY = "greeting.message";
+                }
+                """);
+        addFile("org/acme/a/GreetingConfig.java", GREETING_CONFIG.replace("\"greeting.message\"", "Constants.KEY"));
+
+        assertContainsElements(getPropertyNames(getProjectInfo(getModule())), "greeting.message");
+
+        // Only the file of the constant changes, the file which uses it as property name must be re-collected
+        updateFile(constants, constants.getText().replace("greeting.message", "greeting.text"));
+        notifySourceFileChanged(constants, getModule());
+
+        List<String> names = getPropertyNames(getProjectInfo(getModule()));
+        assertContainsElements(names, "greeting.text");
+        assertDoesntContain(names, "greeting.message");
+    }
+
+    public void testChangedFileIsPatchedInDependentModule() throws Exception {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/a/GreetingConfig.java", GREETING_CONFIG);
+        Module b = createModule("b");
+        addFile("b/org/acme/b/Application.java", """
+                package org.acme.b;
+                public class Application {
+                }
+                """);
+        addDependency(b, getModule());
+
+        // The project info of B contains the properties of the sources of A
+        assertContainsElements(getPropertyNames(getProjectInfo(b)), "greeting.message");
+
+        // The changed file belongs to A, the cached project info of B must be patched too
+        updateFile(file, RENAMED_GREETING_CONFIG);
+        notifySourceFileChanged(file, getModule());
+
+        List<String> names = getPropertyNames(getProjectInfo(b));
+        assertContainsElements(names, "greeting.text");
+        assertDoesntContain(names, "greeting.message");
+    }
+
+    public void testChangedFileIsNotPatchedInIndependentModule() throws Exception {
+        addConfigStubs();
+        PsiFile file = addFile("org/acme/a/GreetingConfig.java", GREETING_CONFIG);
+        Module c = createModule("c");
+        addFile("c/org/acme/c/Application.java", """
+                package org.acme.c;
+                public class Application {
+                }
+                """);
+
+        assertDoesntContain(getPropertyNames(getProjectInfo(c)), "greeting.message");
+
+        updateFile(file, RENAMED_GREETING_CONFIG);
+        notifySourceFileChanged(file, getModule());
+
+        assertDoesntContain(getPropertyNames(getProjectInfo(c)), "greeting.text");
+    }
+}
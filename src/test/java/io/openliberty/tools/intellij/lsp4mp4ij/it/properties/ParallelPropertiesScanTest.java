@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.properties;
+
+import com.intellij.openapi.util.registry.Registry;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.it.core.BaseMicroProfileTest;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that the concurrent collect of the MicroProfile properties returns the same project info as the sequential
+ * collect.
+ */
+public class ParallelPropertiesScanTest extends BaseMicroProfileTest {
+
+    private static final String PARALLEL_SCAN_REGISTRY_KEY = "liberty.tools.microprofile.properties.parallelScan";
+
+    private static final int CONFIG_CLASS_COUNT = 20;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        addConfigStubs();
+        addFile("org/acme/Level.java", """
+                package org.acme;
+                public enum Level {
+                    ERROR, INFO, DEBUG
+                }
+                """);
+        for (int i = 0; i < CONFIG_CLASS_COUNT; i++) {
+            addFile("org/acme/Config" + i + ".java", """
+                    package org.acme;
+                    import org.eclipse.microprofile.config.inject.ConfigProperty;
+                    public class Config%1$d {
+                        @ConfigProperty(name = "app%1$d.name", defaultValue = "app")
+                        String name;
+                        @ConfigProperty(name = "app%1$d.level")
+                        Level level;
+                        @ConfigProperty(name = "shared.timeout")
+                        int timeout;
+                    }
+                    """.formatted(i));
+        }
+        addFile("org/acme/ServerConfig.java", """
+                package org.acme;
+                import org.eclipse.microprofile.config.inject.ConfigProperties;
+                @ConfigProperties(prefix = "server")
+                public class ServerConfig {
+                    public String host;
+                    public int port;
+                }
+                """);
+    }
+
+    public void testParallelScanEqualsSequentialScan() {
+        List<MicroProfilePropertiesScope> scopes = List.of(MicroProfilePropertiesScope.sources,
+                MicroProfilePropertiesScope.dependencies);
+        MicroProfileProjectInfo sequential = getProjectInfo(getModule(), scopes);
+
+        evictProjectInfo();
+        Registry.get(PARALLEL_SCAN_REGISTRY_KEY).setValue(true, getTestRootDisposable());
+        MicroProfileProjectInfo parallel = getProjectInfo(getModule(), scopes);
+
+        assertContainsElements(getPropertyNames(sequential), "app0.name", "app19.level", "shared.timeout");
+        assertEquals(toStrings(sequential.getProperties()), toStrings(parallel.getProperties()));
+        assertEquals(hintsToStrings(sequential.getHints()), hintsToStrings(parallel.getHints()));
+    }
+
+    public void testParallelScanKeepsOnlySourcesScope() {
+        List<MicroProfilePropertiesScope> scopes = List.of(MicroProfilePropertiesScope.sources);
+        MicroProfileProjectInfo sequential = getProjectInfo(getModule(), scopes);
+
+        evictProjectInfo();
+        Registry.get(PARALLEL_SCAN_REGISTRY_KEY).setValue(true, getTestRootDisposable());
+        MicroProfileProjectInfo parallel = getProjectInfo(getModule(), scopes);
+
+        assertTrue(parallel.getProperties().stream().allMatch(property -> Boolean.TRUE.equals(property.getSource())));
+        assertEquals(toStrings(sequential.getProperties()), toStrings(parallel.getProperties()));
+    }
+
+    private void evictProjectInfo() {
+        getProject().getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC)
+                .librariesChanged(Set.of(getModule()));
+    }
+
+    private static List<String> toStrings(List<ItemMetadata> properties) {
+        return properties.stream()
+                .map(property -> property.getName() + "|" + property.getType() + "|" + property.getSourceType() + "|"
+                        + property.getSourceField() + "|" + property.getDefaultValue())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> hintsToStrings(List<ItemHint> hints) {
+        return hints.stream()
+                .map(hint -> hint.getName() + "|" + hint.getValues().stream()
+                        .map(ValueHint::getValue)
+                        .collect(Collectors.joining(",")))
+                .collect(Collectors.toList());
+    }
+}
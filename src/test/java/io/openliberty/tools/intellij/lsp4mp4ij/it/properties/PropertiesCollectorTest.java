@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.properties;
+
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the properties collector.
+ */
+@RunWith(JUnit4.class)
+public class PropertiesCollectorTest {
+
+    private static final List<MicroProfilePropertiesScope> SOURCES_AND_DEPENDENCIES =
+            List.of(MicroProfilePropertiesScope.sources, MicroProfilePropertiesScope.dependencies);
+
+    @Test
+    public void mergeWithReplaceMovesReplacedPropertyToTheEnd() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.merge(metadata(property("a", "org.acme.Old"), property("b", "org.acme.Old"), property("c", "org.acme.Old")),
+                MergingStrategy.FORCE);
+
+        collector.merge(metadata(property("a", "org.acme.New")), MergingStrategy.REPLACE);
+        collector.merge(metadata(property("d", "org.acme.New")), MergingStrategy.REPLACE);
+
+        Assert.assertEquals(Arrays.asList("b:org.acme.Old", "c:org.acme.Old", "a:org.acme.New", "d:org.acme.New"),
+                properties(result));
+
+        // The index of the other properties is still valid after the removal
+        collector.merge(metadata(property("c", "org.acme.New")), MergingStrategy.REPLACE);
+        Assert.assertEquals(Arrays.asList("b:org.acme.Old", "a:org.acme.New", "d:org.acme.New", "c:org.acme.New"),
+                properties(result));
+    }
+
+    @Test
+    public void mergeWithReplaceKeepsOtherDuplicates() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.merge(metadata(property("a", "org.acme.One"), property("b", "org.acme.One"), property("a", "org.acme.Two")),
+                MergingStrategy.FORCE);
+
+        // Only the first property with the name is replaced, like before the index
+        collector.merge(metadata(property("a", "org.acme.New")), MergingStrategy.REPLACE);
+        Assert.assertEquals(Arrays.asList("b:org.acme.One", "a:org.acme.Two", "a:org.acme.New"), properties(result));
+
+        collector.merge(metadata(property("a", "org.acme.Newer")), MergingStrategy.REPLACE);
+        Assert.assertEquals(Arrays.asList("b:org.acme.One", "a:org.acme.New", "a:org.acme.Newer"), properties(result));
+
+        // Several replacements of the same name in one merge replace the properties in order
+        collector.merge(metadata(property("a", "org.acme.Last"), property("a", "org.acme.Final")), MergingStrategy.REPLACE);
+        Assert.assertEquals(Arrays.asList("b:org.acme.One", "a:org.acme.Last", "a:org.acme.Final"), properties(result));
+    }
+
+    @Test
+    public void mergeWithIgnoreIfExistsKeepsExistingProperty() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.merge(metadata(property("a", "org.acme.Old"), property("b", "org.acme.Old")), MergingStrategy.FORCE);
+
+        collector.merge(metadata(property("a", "org.acme.New"), property("c", "org.acme.New")),
+                MergingStrategy.IGNORE_IF_EXISTS);
+
+        Assert.assertEquals(Arrays.asList("a:org.acme.Old", "b:org.acme.Old", "c:org.acme.New"), properties(result));
+    }
+
+    @Test
+    public void mergeWithForceAddsDuplicates() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.merge(metadata(property("a", "org.acme.One")), MergingStrategy.FORCE);
+
+        collector.merge(metadata(property("a", "org.acme.Two"), property("b", "org.acme.Two")), MergingStrategy.FORCE);
+
+        Assert.assertEquals(Arrays.asList("a:org.acme.One", "a:org.acme.Two", "b:org.acme.Two"), properties(result));
+    }
+
+    @Test
+    public void mergeOnlySourcesIgnoresBinaryProperties() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, List.of(MicroProfilePropertiesScope.sources));
+        ItemMetadata source = property("a", "org.acme.Source");
+        source.setSource(Boolean.TRUE);
+
+        collector.merge(metadata(source, property("b", "org.acme.Binary")), MergingStrategy.FORCE);
+
+        Assert.assertEquals(List.of("a:org.acme.Source"), properties(result));
+    }
+
+    @Test
+    public void mergeHintValues() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.merge(hints(hint("level", "ERROR", "INFO", "DEBUG")), MergingStrategy.FORCE);
+
+        collector.merge(hints(hint("level", "INFO", "TRACE")), MergingStrategy.IGNORE_IF_EXISTS);
+        Assert.assertEquals(Arrays.asList("ERROR", "INFO", "DEBUG", "TRACE"), values(result.getHints().get(0)));
+
+        collector.merge(hints(hint("level", "ERROR", "WARN")), MergingStrategy.REPLACE);
+        Assert.assertEquals(Arrays.asList("INFO", "DEBUG", "TRACE", "ERROR", "WARN"), values(result.getHints().get(0)));
+
+        collector.merge(hints(hint("level", "INFO")), MergingStrategy.FORCE);
+        Assert.assertEquals(Arrays.asList("INFO", "DEBUG", "TRACE", "ERROR", "WARN", "INFO"),
+                values(result.getHints().get(0)));
+        Assert.assertEquals(1, result.getHints().size());
+    }
+
+    @Test
+    public void mergeHintValuesWithReplaceKeepsOtherDuplicates() {
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.merge(hints(hint("level", "ERROR", "INFO")), MergingStrategy.FORCE);
+        collector.merge(hints(hint("level", "ERROR")), MergingStrategy.FORCE);
+        ValueHint duplicate = result.getHints().get(0).getValues().get(2);
+        ItemHint replacement = hint("level", "ERROR", "ERROR");
+
+        // The first value is replaced by the first new value, then the duplicate added with FORCE by the second one
+        collector.merge(hints(replacement), MergingStrategy.REPLACE);
+
+        List<ValueHint> values = result.getHints().get(0).getValues();
+        Assert.assertEquals(Arrays.asList("INFO", "ERROR", "ERROR"), values(result.getHints().get(0)));
+        Assert.assertTrue(values.stream().noneMatch(value -> value == duplicate));
+        Assert.assertSame(replacement.getValues().get(0), values.get(1));
+        Assert.assertSame(replacement.getValues().get(1), values.get(2));
+    }
+
+    @Test
+    public void libraryEnumHintIsReplayedVerbatim() {
+        ConfigurationMetadata library = new ConfigurationMetadata();
+        library.setProperties(new ArrayList<>(List.of(property("app.level", "org.acme.Config"))));
+        ItemHint enumHint = hint("org.acme.Level", "ERROR", "INFO");
+        enumHint.setSourceType("org.acme.Level");
+        enumHint.setDescription("The level.");
+        library.setHints(new ArrayList<>(List.of(enumHint)));
+
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.addAll(library);
+
+        Assert.assertEquals(1, result.getHints().size());
+        ItemHint replayed = result.getHints().get(0);
+        Assert.assertEquals("org.acme.Level", replayed.getName());
+        Assert.assertEquals("org.acme.Level", replayed.getSourceType());
+        Assert.assertEquals("The level.", replayed.getDescription());
+        Assert.assertEquals(Arrays.asList("ERROR", "INFO"), values(replayed));
+    }
+
+    @Test
+    public void libraryHintIsNotUpdatedByCollector() {
+        ConfigurationMetadata library = new ConfigurationMetadata();
+        library.setProperties(new ArrayList<>());
+        library.setHints(new ArrayList<>(List.of(hint("${mp.register.rest.client.class}", "org.acme.LibraryClient"))));
+
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.addAll(library);
+        // A provider of the main search adds a REST client of the sources
+        ValueHint value = new ValueHint();
+        value.setValue("org.acme.SourceClient");
+        collector.getItemHint("${mp.register.rest.client.class}").getValues().add(value);
+
+        Assert.assertEquals(Arrays.asList("org.acme.LibraryClient", "org.acme.SourceClient"),
+                values(result.getHints().get(0)));
+        // The cached metadata of the JAR is shared by all the projects
+        Assert.assertEquals(List.of("org.acme.LibraryClient"), values(library.getHints().get(0)));
+    }
+
+    @Test
+    public void libraryHintValuesAreAppended() {
+        ConfigurationMetadata library1 = new ConfigurationMetadata();
+        library1.setProperties(new ArrayList<>());
+        library1.setHints(new ArrayList<>(List.of(hint("${mp.register.rest.client.class}", "org.acme.Client1"))));
+        ConfigurationMetadata library2 = new ConfigurationMetadata();
+        library2.setProperties(new ArrayList<>());
+        library2.setHints(new ArrayList<>(List.of(hint("${mp.register.rest.client.class}", "org.acme.Client2"))));
+
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.addAll(library1);
+        collector.addAll(library2);
+
+        Assert.assertEquals(1, result.getHints().size());
+        Assert.assertEquals(Arrays.asList("org.acme.Client1", "org.acme.Client2"), values(result.getHints().get(0)));
+    }
+
+    @Test
+    public void sameNamePropertiesOfDifferentLibrariesAreKept() {
+        ConfigurationMetadata library1 = new ConfigurationMetadata();
+        library1.setProperties(new ArrayList<>(List.of(property("app.timeout", "org.acme.one.Config"))));
+        library1.setHints(new ArrayList<>());
+        ConfigurationMetadata library2 = new ConfigurationMetadata();
+        library2.setProperties(new ArrayList<>(List.of(property("app.timeout", "org.acme.two.Config"))));
+        library2.setHints(new ArrayList<>());
+
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.addAll(library1);
+        collector.addAll(library2);
+
+        Assert.assertEquals(Arrays.asList("org.acme.one.Config", "org.acme.two.Config"), result.getProperties()
+                .stream()
+                .map(ItemMetadata::getSourceType)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void propertiesAddedOncePerSearchAreNotDuplicated() {
+        ConfigurationMetadata library1 = new ConfigurationMetadata();
+        library1.setProperties(new ArrayList<>(List.of(property("${mp.register.rest.client.class}/mp-rest/url", null))));
+        library1.setHints(new ArrayList<>());
+        ConfigurationMetadata library2 = new ConfigurationMetadata();
+        library2.setProperties(new ArrayList<>(List.of(property("${mp.register.rest.client.class}/mp-rest/url", null))));
+        library2.setHints(new ArrayList<>());
+
+        ConfigurationMetadata result = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(result, SOURCES_AND_DEPENDENCIES);
+        collector.addAll(library1);
+        collector.addAll(library2);
+        // The main search adds it again
+        collector.addItemMetadata("${mp.register.rest.client.class}/mp-rest/url", "java.lang.String", null, null,
+                null, null, null, null, false, 0);
+
+        Assert.assertEquals(1, result.getProperties().size());
+    }
+
+    private static ConfigurationMetadata metadata(ItemMetadata... properties) {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(new ArrayList<>(Arrays.asList(properties)));
+        metadata.setHints(new ArrayList<>());
+        return metadata;
+    }
+
+    private static ConfigurationMetadata hints(ItemHint... hints) {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(new ArrayList<>());
+        metadata.setHints(new ArrayList<>(Arrays.asList(hints)));
+        return metadata;
+    }
+
+    private static List<String> properties(ConfigurationMetadata metadata) {
+        return metadata.getProperties()
+                .stream()
+                .map(property -> property.getName() + ":" + property.getSourceType())
+                .collect(Collectors.toList());
+    }
+
+    static ItemMetadata property(String name, String sourceType) {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(name);
+        property.setType("java.lang.String");
+        property.setSourceType(sourceType);
+        return property;
+    }
+
+    static ItemHint hint(String name, String... values) {
+        ItemHint hint = new ItemHint();
+        hint.setName(name);
+        hint.setValues(new ArrayList<>());
+        for (String value : values) {
+            ValueHint valueHint = new ValueHint();
+            valueHint.setValue(value);
+            hint.getValues().add(valueHint);
+        }
+        return hint;
+    }
+
+    static List<String> values(ItemHint hint) {
+        return hint.getValues()
+                .stream()
+                .map(ValueHint::getValue)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.it.properties;
+
+import com.intellij.openapi.application.ReadAction;
+import io.openliberty.tools.intellij.lsp4mp4ij.it.core.BaseMicroProfileTest;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
+
+/**
+ * Tests the modules pre-warmed by {@link PropertiesManager#preload}.
+ */
+public class PropertiesManagerPreloadTest extends BaseMicroProfileTest {
+
+    public void testModuleWithoutMicroProfileIsSkipped() {
+        assertFalse(preload());
+    }
+
+    public void testModuleWithMicroProfileIsPreloaded() {
+        addConfigStubs();
+
+        assertTrue(preload());
+    }
+
+    private boolean preload() {
+        return ReadAction.compute(() -> PropertiesManager.getInstance().preload(getModule()));
+    }
+}